@@ -0,0 +1,62 @@
+package com.mlcdev.employeeapi.benchmark;
+
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one {@code save} per row against {@code saveAll} with JDBC batching.
+ * Each invocation inserts {@code rows} employees; rows/sec is {@code rows * ops/sec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"100", "500"})
+    private int batchSize;
+
+    private HikariDataSource dataSource;
+    private EmployeeDAO dao;
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkDatabase.create();
+        dao = new EmployeeDAO(dataSource, batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareRows() {
+        BenchmarkDatabase.truncate(dataSource);
+        employees = BenchmarkDatabase.employees(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.drop(dataSource);
+    }
+
+    @Benchmark
+    public List<Employee> singleInserts() {
+        for (Employee employee : employees) {
+            dao.save(employee);
+        }
+        return employees;
+    }
+
+    @Benchmark
+    public List<Employee> batchInsert() {
+        return dao.saveAll(employees);
+    }
+}
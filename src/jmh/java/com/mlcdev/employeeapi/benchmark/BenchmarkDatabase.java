@@ -0,0 +1,65 @@
+package com.mlcdev.employeeapi.benchmark;
+
+import com.mlcdev.employeeapi.config.DatabaseConfig;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared setup for the benchmarks: an H2 in-memory database (from the test application.properties)
+ * with the same employee table used by the DAO tests.
+ */
+final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    static HikariDataSource create() {
+        HikariDataSource dataSource = DatabaseConfig.createDataSource();
+        execute(dataSource, """
+                CREATE TABLE IF NOT EXISTS employee (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    salary DECIMAL(19, 2) NOT NULL,
+                    hiring_date DATE NOT NULL,
+                    role VARCHAR(50) NOT NULL
+                );
+                """);
+        return dataSource;
+    }
+
+    static void truncate(HikariDataSource dataSource) {
+        execute(dataSource, "TRUNCATE TABLE employee;");
+    }
+
+    static void drop(HikariDataSource dataSource) {
+        execute(dataSource, "DROP TABLE employee IF EXISTS;");
+        dataSource.close();
+    }
+
+    static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        Role[] roles = Role.values();
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee("Employee " + i, new BigDecimal("1000.00").add(BigDecimal.valueOf(i)),
+                    LocalDate.of(2000, 1, 1).plusDays(i % 9000), roles[i % roles.length]));
+        }
+        return employees;
+    }
+
+    private static void execute(HikariDataSource dataSource, String query) {
+        try (Connection conn = dataSource.getConnection(); Statement statement = conn.createStatement()) {
+            statement.execute(query);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
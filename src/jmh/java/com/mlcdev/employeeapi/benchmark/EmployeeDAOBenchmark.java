@@ -0,0 +1,63 @@
+package com.mlcdev.employeeapi.benchmark;
+
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeDAOBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"50"})
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+    private EmployeeDAO dao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkDatabase.create();
+        BenchmarkDatabase.truncate(dataSource);
+        dao = new EmployeeDAO(dataSource);
+        dao.saveAll(BenchmarkDatabase.employees(rows));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.drop(dataSource);
+    }
+
+    @Benchmark
+    public Optional<Employee> findById() {
+        return dao.findById(ThreadLocalRandom.current().nextLong(1, rows + 1));
+    }
+
+    @Benchmark
+    public List<Employee> findAllPage() {
+        int page = ThreadLocalRandom.current().nextInt(rows / pageSize);
+        return dao.findAll(pageSize, page * pageSize);
+    }
+
+    @Benchmark
+    public List<Employee> findAllAfterCursor() {
+        return dao.findAllAfter(ThreadLocalRandom.current().nextLong(rows - pageSize), pageSize);
+    }
+
+    @Benchmark
+    public Employee save() {
+        return dao.save(BenchmarkDatabase.employees(1).getFirst());
+    }
+}
@@ -0,0 +1,71 @@
+package com.mlcdev.employeeapi.benchmark;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validation and entity/DTO mapping in isolation: the DAO is replaced by an
+ * in-memory stub so no JDBC time is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50"})
+    private int pageSize;
+
+    private EmployeeService service;
+    private EmployeeDTO newEmployee;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> page = BenchmarkDatabase.employees(pageSize);
+        for (int i = 0; i < page.size(); i++) {
+            page.get(i).setId(i + 1L);
+        }
+        service = new EmployeeService(new InMemoryEmployeeDAO(page));
+        newEmployee = new EmployeeDTO(page.getFirst());
+        newEmployee.setId(null);
+    }
+
+    @Benchmark
+    public EmployeeDTO addValidatesAndMaps() {
+        return service.add(newEmployee);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> findAllMapsPage() {
+        return service.findAll(1, pageSize);
+    }
+
+    private static class InMemoryEmployeeDAO extends EmployeeDAO {
+
+        private final List<Employee> page;
+
+        InMemoryEmployeeDAO(List<Employee> page) {
+            super(null);
+            this.page = page;
+        }
+
+        @Override
+        public List<Employee> findAll(int limit, int offset) {
+            return page;
+        }
+
+        @Override
+        public Employee save(Employee employee) {
+            employee.setId(1L);
+            return employee;
+        }
+    }
+}
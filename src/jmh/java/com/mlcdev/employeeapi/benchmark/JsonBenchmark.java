@@ -0,0 +1,58 @@
+package com.mlcdev.employeeapi.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mlcdev.employeeapi.config.ObjectMapperConfig;
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final TypeReference<List<EmployeeDTO>> EMPLOYEE_LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"10", "100"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<EmployeeDTO> employees;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = ObjectMapperConfig.getMapper();
+        employees = new ArrayList<>(listSize);
+        long id = 1;
+        for (Employee employee : BenchmarkDatabase.employees(listSize)) {
+            employee.setId(id++);
+            employees.add(new EmployeeDTO(employee));
+        }
+        json = objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public String serializeToString() throws IOException {
+        return objectMapper.writeValueAsString(employees);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> deserialize() throws IOException {
+        return objectMapper.readValue(json, EMPLOYEE_LIST_TYPE);
+    }
+}
@@ -0,0 +1,112 @@
+package com.mlcdev.employeeapi.benchmark;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.EmployeeRowMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping cost without the query: one scrollable page is read once and every invocation
+ * rewinds it and maps all of its rows. {@code byName*} is the mapping the DAO used before
+ * {@link EmployeeRowMapper} (column lookups by name, {@code Role.valueOf}, {@code java.sql.Date}),
+ * and {@code *ThenCopy} adds the entity-to-DTO copy done by the service. Divide the
+ * {@code gc.alloc.rate.norm} of each benchmark by {@code pageSize} for the bytes per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"500"})
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = BenchmarkDatabase.create();
+        BenchmarkDatabase.truncate(dataSource);
+        new EmployeeDAO(dataSource).saveAll(BenchmarkDatabase.employees(pageSize));
+        connection = dataSource.getConnection();
+        statement = connection.prepareStatement("SELECT id, name, salary, hiring_date, role FROM employee ORDER BY id;",
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        resultSet = statement.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        resultSet.close();
+        statement.close();
+        connection.close();
+        BenchmarkDatabase.drop(dataSource);
+    }
+
+    @Benchmark
+    public void byNameEntity(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(mapByName(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void byNameEntityThenCopy(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(new EmployeeDTO(mapByName(resultSet)));
+        }
+    }
+
+    @Benchmark
+    public void rowMapperEntity(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        EmployeeRowMapper mapper = EmployeeRowMapper.of(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(mapper.toEmployee(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void rowMapperEntityThenCopy(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        EmployeeRowMapper mapper = EmployeeRowMapper.of(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(new EmployeeDTO(mapper.toEmployee(resultSet)));
+        }
+    }
+
+    @Benchmark
+    public void rowMapperDTO(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        EmployeeRowMapper mapper = EmployeeRowMapper.of(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(mapper.toDTO(resultSet));
+        }
+    }
+
+    private static Employee mapByName(ResultSet resultSet) throws SQLException {
+        Employee employee = new Employee();
+        employee.setId(resultSet.getLong("id"));
+        employee.setName(resultSet.getString("name"));
+        employee.setSalary(resultSet.getBigDecimal("salary"));
+        employee.setRole(Role.valueOf(resultSet.getString("role")));
+        employee.setHiringDate(resultSet.getDate("hiring_date").toLocalDate());
+        return employee;
+    }
+}
@@ -0,0 +1,214 @@
+package com.mlcdev.employeeapi.cache;
+
+import com.mlcdev.employeeapi.model.Employee;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded LRU cache of employees keyed by ID, with an optional time to live.
+ * <p>
+ * Loads are guarded by a generation counter: callers take {@link #generation()} before reading
+ * the database and hand it back to {@link #putIfFresh}. Any invalidation in between bumps the
+ * generation and the (possibly stale) loaded value is discarded instead of cached.
+ * A {@code maxSize} of 0 disables the cache.
+ * <p>
+ * Entries are spread over up to 16 lock-striped segments, each an access-ordered map holding
+ * its share of {@code maxSize}, so concurrent reads of different IDs rarely wait on the same
+ * lock. Eviction is LRU within a segment, which approximates a global LRU; caches below
+ * {@value #MIN_SEGMENT_SIZE} entries per segment use fewer segments (a single one when small).
+ */
+public class EmployeeCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Segment[] segments;
+
+    public EmployeeCache(int maxSize, long ttlSeconds) {
+        this.maxSize = Math.max(maxSize, 0);
+        this.ttlNanos = ttlSeconds > 0 ? ttlSeconds * 1_000_000_000L : 0L;
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, this.maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(this.maxSize / count + (i < this.maxSize % count ? 1 : 0));
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public Optional<Employee> get(Long id) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Segment segment = segmentFor(id);
+        CacheEntry entry;
+        segment.lock.lock();
+        try {
+            entry = segment.entries.get(id);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                segment.entries.remove(id);
+                evictions.increment();
+                entry = null;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.employee);
+    }
+
+    /**
+     * Returns the entry without touching the hit/miss counters.
+     */
+    public Optional<Employee> peek(Long id) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Segment segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            CacheEntry entry = segment.entries.get(id);
+            if (entry == null || entry.isExpired(System.nanoTime())) {
+                return Optional.empty();
+            }
+            return Optional.of(entry.employee);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * The generation check and the insert happen under the segment lock that
+     * {@link #invalidate} takes for the same ID, so an invalidation can't slip in between.
+     */
+    public void putIfFresh(Long id, Employee employee, long loadGeneration) {
+        if (!isEnabled()) {
+            return;
+        }
+        Segment segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            if (generation.get() == loadGeneration) {
+                segment.entries.put(id, new CacheEntry(employee, expiresAt()));
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(Long id) {
+        if (!isEnabled()) {
+            return;
+        }
+        Segment segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            generation.incrementAndGet();
+            segment.entries.remove(id);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Bumps the generation before emptying the segments, so a load that started before the
+     * clear can't repopulate a segment that was already emptied.
+     */
+    public void clear() {
+        if (!isEnabled()) {
+            return;
+        }
+        generation.incrementAndGet();
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment segmentFor(Long id) {
+        int hash = Long.hashCode(id);
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private long expiresAt() {
+        return ttlNanos == 0 ? 0L : System.nanoTime() + ttlNanos;
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, CacheEntry> entries;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+
+    private record CacheEntry(Employee employee, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt != 0L && now - expiresAt >= 0;
+        }
+    }
+}
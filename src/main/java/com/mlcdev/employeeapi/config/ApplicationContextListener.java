@@ -1,31 +1,178 @@
 package com.mlcdev.employeeapi.config;
 
 
+import com.mlcdev.employeeapi.cache.EmployeeCache;
+import com.mlcdev.employeeapi.controller.AsyncRequestExecutor;
+import com.mlcdev.employeeapi.job.JobRegistry;
+import com.mlcdev.employeeapi.limit.AdaptiveConcurrencyLimiter;
+import com.mlcdev.employeeapi.logging.AccessLog;
+import com.mlcdev.employeeapi.metrics.HikariMetricsTrackerFactory;
+import com.mlcdev.employeeapi.metrics.MetricsRegistry;
+import com.mlcdev.employeeapi.repository.DataSourceRouter;
+import com.mlcdev.employeeapi.repository.EmployeeBatchLoader;
 import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.EmployeeIndexes;
+import com.mlcdev.employeeapi.search.NameSearchIndex;
 import com.mlcdev.employeeapi.service.EmployeeService;
+import com.mlcdev.employeeapi.stats.EmployeeCounter;
+import com.mlcdev.employeeapi.stats.EmployeeStatistics;
 import com.zaxxer.hikari.HikariDataSource;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @WebListener
 public class ApplicationContextListener implements ServletContextListener {
 
     private HikariDataSource dataSource;
+    private DataSourceRouter dataSourceRouter;
+    private AsyncRequestExecutor asyncExecutor;
+    private EmployeeStatistics employeeStatistics;
+    private EmployeeCounter employeeCounter;
+    private AccessLog accessLog;
+    private JobRegistry jobRegistry;
+    private EmployeeBatchLoader batchLoader;
 
     @Override
     public void contextInitialized(ServletContextEvent sce) {
-        dataSource = DatabaseConfig.createDataSource();
-        EmployeeDAO employeeDao = new EmployeeDAO(dataSource);
-        EmployeeService employeeService = new EmployeeService(employeeDao);
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        HikariMetricsTrackerFactory metricsTrackerFactory = new HikariMetricsTrackerFactory(metricsRegistry);
+        dataSource = DatabaseConfig.createDataSource(metricsTrackerFactory);
+        if (ApplicationProperties.getBoolean("db.ensureIndexes", true)) {
+            EmployeeIndexes.ensure(dataSource);
+        }
+        dataSourceRouter = new DataSourceRouter(dataSource, DatabaseConfig.createReplicaDataSources(metricsTrackerFactory),
+                DataSourceRouter.Strategy.fromProperty(ApplicationProperties.get("db.replica.strategy")),
+                ApplicationProperties.getLong("db.replica.retryMillis", 30000));
+        EmployeeDAO employeeDao = new EmployeeDAO(dataSourceRouter, ApplicationProperties.getInt("db.batch.size", 500),
+                ApplicationProperties.getInt("db.fetch.size", 1000));
+        EmployeeDAO primaryDao = new EmployeeDAO(dataSource, ApplicationProperties.getInt("db.batch.size", 500),
+                ApplicationProperties.getInt("db.fetch.size", 1000));
+        EmployeeCache employeeCache = new EmployeeCache(ApplicationProperties.getInt("cache.maxSize", 10000),
+                ApplicationProperties.getLong("cache.ttlSeconds", 300));
+        int maxConcurrentJobs = ApplicationProperties.getInt("jobs.maxConcurrent", 1);
+        jobRegistry = new JobRegistry(new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ApplicationProperties.getInt("jobs.maxQueued", 10))),
+                ApplicationProperties.getInt("jobs.retained", 100));
+        if (ApplicationProperties.getBoolean("db.batchLoader.enabled", false)) {
+            batchLoader = new EmployeeBatchLoader(employeeCache.isEnabled() ? primaryDao : employeeDao,
+                    ApplicationProperties.getInt("db.batchLoader.maxBatchSize", 100),
+                    ApplicationProperties.getLong("db.batchLoader.maxWaitMicros", 1000), Executors.newVirtualThreadPerTaskExecutor());
+        }
+        EmployeeService employeeService = new EmployeeService(employeeDao, employeeCache, jobRegistry, batchLoader);
+        if (ApplicationProperties.getBoolean("stats.enabled", true)) {
+            employeeStatistics = new EmployeeStatistics(primaryDao);
+            employeeService.addChangeListener(employeeStatistics);
+            employeeStatistics.start(ApplicationProperties.getLong("stats.reconcileSeconds", 300));
+        }
+        if (ApplicationProperties.getBoolean("count.enabled", true)) {
+            employeeCounter = new EmployeeCounter(primaryDao, ApplicationProperties.getLong("count.filteredTtlSeconds", 30));
+            employeeService.addChangeListener(employeeCounter);
+            employeeCounter.start(ApplicationProperties.getLong("count.refreshSeconds", 60));
+        }
+        NameSearchIndex nameSearchIndex = null;
+        if (ApplicationProperties.getBoolean("search.enabled", true)) {
+            nameSearchIndex = new NameSearchIndex();
+            nameSearchIndex.load(primaryDao);
+            employeeService.addChangeListener(nameSearchIndex);
+        }
         ServletContext context = sce.getServletContext();
+        context.setAttribute("EmployeeCache", employeeCache);
+        context.setAttribute("MetricsRegistry", metricsRegistry);
+        registerCacheMetrics(metricsRegistry, employeeCache);
         context.setAttribute("EmployeeService", employeeService);
+        metricsRegistry.counter("employee_reads_coalesced_total", "Reads answered by a concurrent identical query.", "", employeeService::getCoalescedReadCount);
+        if (batchLoader != null) {
+            registerBatchLoaderMetrics(metricsRegistry, batchLoader);
+        }
+        if (employeeStatistics != null) {
+            context.setAttribute("EmployeeStatistics", employeeStatistics);
+        }
+        if (employeeCounter != null) {
+            context.setAttribute("EmployeeCounter", employeeCounter);
+        }
+        if (nameSearchIndex != null) {
+            context.setAttribute("NameSearchIndex", nameSearchIndex);
+            registerSearchMetrics(metricsRegistry, nameSearchIndex);
+        }
         context.setAttribute("ObjectMapper", ObjectMapperConfig.getMapper());
+        if (ApplicationProperties.getBoolean("accessLog.enabled", true)) {
+            accessLog = new AccessLog(ApplicationProperties.getInt("accessLog.bufferSize", 8192),
+                    ApplicationProperties.getInt("accessLog.batchSize", 256),
+                    ApplicationProperties.getDouble("accessLog.sampleRate", 1.0),
+                    ApplicationProperties.getLong("accessLog.slowThresholdMs", 500));
+            context.setAttribute("AccessLog", accessLog);
+            metricsRegistry.counter("access_log_written_total", "Access log records written.", "", accessLog::getWrittenCount);
+            metricsRegistry.counter("access_log_dropped_total", "Access log records dropped because the buffer was full.", "", accessLog::getDroppedCount);
+        }
+        if (ApplicationProperties.getBoolean("limiter.enabled", true)) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    ApplicationProperties.getInt("limiter.initialLimit", 2 * DatabaseConfig.getMaximumPoolSize()),
+                    ApplicationProperties.getInt("limiter.minLimit", 2),
+                    ApplicationProperties.getInt("limiter.maxLimit", 200),
+                    ApplicationProperties.getLong("limiter.latencyThresholdMs", 1000),
+                    ApplicationProperties.getDouble("limiter.backoffRatio", 0.9),
+                    ApplicationProperties.getLong("limiter.retryAfterSeconds", 1));
+            context.setAttribute("ConcurrencyLimiter", limiter);
+            metricsRegistry.gauge("concurrency_limit", "Current adaptive concurrency limit.", "", limiter::getLimit);
+            metricsRegistry.gauge("concurrency_in_flight", "Requests currently holding a concurrency slot.", "", limiter::getInFlight);
+            metricsRegistry.counter("concurrency_rejected_total", "Requests rejected with 503 by the concurrency limit.", "", limiter::getRejectedCount);
+        }
+        if (ApplicationProperties.getBoolean("server.async.enabled", false)) {
+            asyncExecutor = new AsyncRequestExecutor(Executors.newVirtualThreadPerTaskExecutor(),
+                    ApplicationProperties.getInt("server.async.maxConcurrency", DatabaseConfig.getMaximumPoolSize()),
+                    ApplicationProperties.getLong("server.async.timeoutMs", 60000));
+            context.setAttribute("AsyncRequestExecutor", asyncExecutor);
+        }
+    }
+
+    private void registerCacheMetrics(MetricsRegistry metricsRegistry, EmployeeCache employeeCache) {
+        metricsRegistry.counter("employee_cache_hits_total", "Employee cache hits.", "", employeeCache::getHitCount);
+        metricsRegistry.counter("employee_cache_misses_total", "Employee cache misses.", "", employeeCache::getMissCount);
+        metricsRegistry.counter("employee_cache_evictions_total", "Employee cache evictions (size or TTL).", "", employeeCache::getEvictionCount);
+        metricsRegistry.gauge("employee_cache_size", "Employees currently cached.", "", employeeCache::size);
+    }
+
+    private void registerSearchMetrics(MetricsRegistry metricsRegistry, NameSearchIndex nameSearchIndex) {
+        metricsRegistry.gauge("employee_search_index_names", "Employees in the name search index.", "", nameSearchIndex::size);
+        metricsRegistry.gauge("employee_search_index_tokens", "Distinct tokens in the name search index.", "", nameSearchIndex::tokenCount);
+    }
+
+    private void registerBatchLoaderMetrics(MetricsRegistry metricsRegistry, EmployeeBatchLoader batchLoader) {
+        metricsRegistry.counter("employee_batch_loader_batches_total", "Batched ID lookups run.", "", batchLoader::getBatchCount);
+        metricsRegistry.counter("employee_batch_loader_keys_total", "Distinct IDs looked up by batched queries.", "", batchLoader::getKeyCount);
+        metricsRegistry.gauge("employee_batch_loader_fill_ratio", "Average share of the max batch size used per batch.", "", batchLoader::getFillRatio);
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
+        if (this.asyncExecutor != null) {
+            this.asyncExecutor.close();
+        }
+        if (this.jobRegistry != null) {
+            this.jobRegistry.close();
+        }
+        if (this.employeeStatistics != null) {
+            this.employeeStatistics.close();
+        }
+        if (this.employeeCounter != null) {
+            this.employeeCounter.close();
+        }
+        if (this.accessLog != null) {
+            this.accessLog.close();
+        }
+        if (this.batchLoader != null) {
+            this.batchLoader.close();
+        }
+        if (this.dataSourceRouter != null) {
+            this.dataSourceRouter.close();
+        }
         if(this.dataSource != null && !this.dataSource.isClosed()){
             this.dataSource.close();
         }
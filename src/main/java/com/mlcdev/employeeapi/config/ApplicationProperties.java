@@ -0,0 +1,82 @@
+package com.mlcdev.employeeapi.config;
+
+import com.mlcdev.employeeapi.exception.DBConnectionException;
+import com.mlcdev.employeeapi.exception.DatabaseException;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+public class ApplicationProperties {
+
+    private static final String FILE_NAME = "application.properties";
+    private static volatile Properties properties;
+
+    private ApplicationProperties() {
+    }
+
+    public static String get(String key) {
+        return load().getProperty(key);
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(value.trim());
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    private static Properties load() {
+        Properties loaded = properties;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (ApplicationProperties.class) {
+            if (properties == null) {
+                properties = readFile();
+            }
+            return properties;
+        }
+    }
+
+    private static Properties readFile() {
+        InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(FILE_NAME);
+        if (input == null) {
+            input = ApplicationProperties.class.getClassLoader().getResourceAsStream(FILE_NAME);
+        }
+        if (input == null) {
+            throw new DatabaseException("'application.properties' file not found in the classpath.");
+        }
+        try (InputStream loadedInput = input) {
+            Properties loadedProperties = new Properties();
+            loadedProperties.load(loadedInput);
+            return loadedProperties;
+        } catch (Exception e) {
+            throw new DBConnectionException("Error loading database configuration: " + e.getMessage(), e);
+        }
+    }
+}
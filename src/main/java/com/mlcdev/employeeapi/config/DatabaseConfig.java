@@ -1,13 +1,12 @@
 package com.mlcdev.employeeapi.config;
 
-import com.mlcdev.employeeapi.controller.EmployeeController;
 import com.mlcdev.employeeapi.exception.DBConnectionException;
-import com.mlcdev.employeeapi.exception.DatabaseException;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 
-import java.io.InputStream;
-import java.util.Properties;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DatabaseConfig {
 
@@ -16,30 +15,60 @@ public class DatabaseConfig {
     }
 
     public static HikariDataSource createDataSource(){
-        InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream("application.properties");
-        if (input == null) {
-            input = DatabaseConfig.class.getClassLoader().getResourceAsStream("application.properties");
-        }
-        if (input == null) {
-            throw new DatabaseException("'application.properties' file not found in the classpath.");
-        }
+        return createDataSource(null);
+    }
 
-        try (InputStream loadedInput = input){
-            Properties properties = new Properties();
-            properties.load(loadedInput);
+    public static HikariDataSource createDataSource(MetricsTrackerFactory metricsTrackerFactory){
+        return createDataSource(ApplicationProperties.get("db.url"), ApplicationProperties.get("db.user"),
+                ApplicationProperties.get("db.password"), null, metricsTrackerFactory);
+    }
 
+    /**
+     * Builds one read pool per URL in the comma separated {@code db.replica.urls}. Replicas use
+     * the primary credentials unless {@code db.replica.user} and {@code db.replica.password} are set.
+     */
+    public static List<HikariDataSource> createReplicaDataSources(MetricsTrackerFactory metricsTrackerFactory) {
+        String urls = ApplicationProperties.get("db.replica.urls");
+        if (urls == null || urls.isBlank()) {
+            return List.of();
+        }
+        String user = ApplicationProperties.get("db.replica.user");
+        String password = ApplicationProperties.get("db.replica.password");
+        if (user == null || user.isBlank()) {
+            user = ApplicationProperties.get("db.user");
+            password = ApplicationProperties.get("db.password");
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls.split(",")) {
+            if (!url.isBlank()) {
+                replicas.add(createDataSource(url.trim(), user, password, "replica-" + (replicas.size() + 1), metricsTrackerFactory));
+            }
+        }
+        return replicas;
+    }
 
+    private static HikariDataSource createDataSource(String url, String user, String password, String poolName,
+                                                     MetricsTrackerFactory metricsTrackerFactory){
+        try {
             HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(properties.getProperty("db.url"));
-            config.setUsername(properties.getProperty("db.user"));
-            config.setPassword(properties.getProperty("db.password"));
-            config.setDriverClassName(properties.getProperty("db.driver"));
-            config.setMaximumPoolSize(10);
-            config.setMinimumIdle(5);
-            config.setConnectionTimeout(30000);
+            config.setJdbcUrl(url);
+            config.setUsername(user);
+            config.setPassword(password);
+            config.setDriverClassName(ApplicationProperties.get("db.driver"));
+            if (poolName != null) {
+                config.setPoolName(poolName);
+                config.setReadOnly(true);
+            }
+            config.setMaximumPoolSize(getMaximumPoolSize());
+            config.setMinimumIdle(Math.min(5, getMaximumPoolSize()));
+            config.setConnectionTimeout(ApplicationProperties.getLong("db.pool.connectionTimeoutMs", 30000));
             config.addDataSourceProperty("cachePrepStmts", "true");
             config.addDataSourceProperty("prepStmtCacheSize", "250");
             config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            config.addDataSourceProperty("rewriteBatchedStatements", "true");
+            if (metricsTrackerFactory != null) {
+                config.setMetricsTrackerFactory(metricsTrackerFactory);
+            }
 
             return new HikariDataSource(config);
         } catch (Exception e) {
@@ -48,4 +77,8 @@ public class DatabaseConfig {
         }
     }
 
-}
\ No newline at end of file
+    public static int getMaximumPoolSize() {
+        return ApplicationProperties.getInt("db.pool.maxSize", 10);
+    }
+
+}
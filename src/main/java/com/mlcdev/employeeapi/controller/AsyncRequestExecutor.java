@@ -0,0 +1,105 @@
+package com.mlcdev.employeeapi.controller;
+
+import com.mlcdev.employeeapi.filter.ExceptionHandlerFilter;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs servlet work off the container thread. The request is put in async mode, the blocking
+ * service/DAO call runs on the given executor (virtual threads in production) and the
+ * {@link AsyncContext} is completed when it finishes. A semaphore caps how many tasks touch
+ * the database at once, so parked virtual threads queue here instead of inside the Hikari pool.
+ * Exceptions are mapped with the same rules as {@link ExceptionHandlerFilter}, because they can
+ * no longer propagate back through the filter chain.
+ * <p>
+ * When the container times the request out, {@link AsyncResponse} answers 503 and drops anything
+ * the task writes afterwards; a task still waiting for a permit is skipped.
+ */
+public class AsyncRequestExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public AsyncRequestExecutor(ExecutorService executor, int maxConcurrency, long timeoutMillis) {
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public void dispatch(HttpServletRequest req, HttpServletResponse resp, ServletTask task) {
+        dispatch(req, resp, task, () -> { });
+    }
+
+    /**
+     * @param onSkipped runs instead of the task when it never starts: the executor rejected it,
+     *                  or the request timed out while the task waited for a permit. Callers use
+     *                  it to give back whatever they acquired for the task.
+     */
+    public void dispatch(HttpServletRequest req, HttpServletResponse resp, ServletTask task, Runnable onSkipped) {
+        AsyncContext asyncContext = req.startAsync(req, resp);
+        asyncContext.setTimeout(timeoutMillis);
+        AsyncResponse response = new AsyncResponse(resp, asyncContext);
+        asyncContext.addListener(response);
+        try {
+            executor.execute(() -> run(response, task, onSkipped));
+        } catch (RejectedExecutionException e) {
+            onSkipped.run();
+            response.fail(e);
+            response.complete();
+        }
+    }
+
+    private void run(AsyncResponse response, ServletTask task, Runnable onSkipped) {
+        boolean acquired = false;
+        boolean started = false;
+        try {
+            permits.acquire();
+            acquired = true;
+            if (!response.isDone()) {
+                started = true;
+                task.run(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.fail(e);
+        } catch (Exception e) {
+            response.fail(e);
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+            if (!started) {
+                onSkipped.run();
+            }
+            response.complete();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ServletTask {
+        /**
+         * @param response the response to write to; writes are dropped once the request timed out
+         */
+        void run(HttpServletResponse response) throws Exception;
+    }
+}
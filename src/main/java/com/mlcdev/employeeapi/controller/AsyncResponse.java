@@ -0,0 +1,317 @@
+package com.mlcdev.employeeapi.controller;
+
+import com.mlcdev.employeeapi.exception.ServiceUnavailableException;
+import com.mlcdev.employeeapi.filter.CompressionFilter;
+import com.mlcdev.employeeapi.filter.ExceptionHandlerFilter;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The response handed to an async task. Once the request is done, because the task completed
+ * it or the container timed it out, every write and header change is dropped: after a timeout
+ * the container recycles the underlying response for another request, so a late write from the
+ * task must never reach it. Writes and the done transition share this object's monitor, so a
+ * timeout can't land in the middle of a write.
+ */
+class AsyncResponse extends HttpServletResponseWrapper implements AsyncListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncResponse.class);
+    private static final long TIMEOUT_RETRY_AFTER_SECONDS = 1;
+
+    private final AsyncContext asyncContext;
+    private final GuardedOutputStream stream = new GuardedOutputStream();
+    private PrintWriter writer;
+    private boolean done;
+
+    AsyncResponse(HttpServletResponse response, AsyncContext asyncContext) {
+        super(response);
+        this.asyncContext = asyncContext;
+    }
+
+    synchronized boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Writes the error for an exception thrown by the task, unless the request is already done.
+     */
+    synchronized void fail(Exception e) {
+        if (done) {
+            LOGGER.debug("Dropping the error of a finished async request: {}", e.getMessage());
+            return;
+        }
+        try {
+            ExceptionHandlerFilter.writeErrorResponse(this, e);
+        } catch (IOException ioException) {
+            LOGGER.warn("Could not write the error response: {}", ioException.getMessage());
+        }
+    }
+
+    /**
+     * Finishes the body and completes the async context. Only the first call (or a timeout)
+     * has any effect.
+     */
+    void complete() {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+            done = true;
+        }
+        finish();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+        }
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        LOGGER.warn("Async request timed out; answering 503.");
+        if (!response.isCommitted()) {
+            try {
+                response.reset();
+                ExceptionHandlerFilter.writeErrorResponse(response,
+                        new ServiceUnavailableException("The request timed out", TIMEOUT_RETRY_AFTER_SECONDS));
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.warn("Could not write the timeout response: {}", e.getMessage());
+            }
+        }
+        finish();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+        }
+        LOGGER.warn("Async request failed: {}", event.getThrowable() == null ? "unknown error" : event.getThrowable().getMessage());
+        asyncContext.complete();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        synchronized (this) {
+            done = true;
+        }
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private void finish() {
+        try {
+            CompressionFilter.finish(getResponse());
+        } catch (IOException e) {
+            LOGGER.warn("Could not finish the response body: {}", e.getMessage());
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return stream;
+    }
+
+    @Override
+    public synchronized PrintWriter getWriter() {
+        if (writer == null) {
+            String characterEncoding = getCharacterEncoding();
+            Charset charset = characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.ISO_8859_1;
+            writer = new PrintWriter(new OutputStreamWriter(stream, charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public synchronized void setStatus(int sc) {
+        if (!done) {
+            super.setStatus(sc);
+        }
+    }
+
+    @Override
+    public synchronized void sendError(int sc, String msg) throws IOException {
+        if (!done) {
+            super.sendError(sc, msg);
+        }
+    }
+
+    @Override
+    public synchronized void sendError(int sc) throws IOException {
+        if (!done) {
+            super.sendError(sc);
+        }
+    }
+
+    @Override
+    public synchronized void sendRedirect(String location) throws IOException {
+        if (!done) {
+            super.sendRedirect(location);
+        }
+    }
+
+    @Override
+    public synchronized void setHeader(String name, String value) {
+        if (!done) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void addHeader(String name, String value) {
+        if (!done) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void setIntHeader(String name, int value) {
+        if (!done) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void addIntHeader(String name, int value) {
+        if (!done) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void setDateHeader(String name, long date) {
+        if (!done) {
+            super.setDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public synchronized void addDateHeader(String name, long date) {
+        if (!done) {
+            super.addDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public synchronized void addCookie(Cookie cookie) {
+        if (!done) {
+            super.addCookie(cookie);
+        }
+    }
+
+    @Override
+    public synchronized void setContentType(String type) {
+        if (!done) {
+            super.setContentType(type);
+        }
+    }
+
+    @Override
+    public synchronized void setCharacterEncoding(String charset) {
+        if (!done) {
+            super.setCharacterEncoding(charset);
+        }
+    }
+
+    @Override
+    public synchronized void setContentLength(int len) {
+        if (!done) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public synchronized void setContentLengthLong(long len) {
+        if (!done) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public synchronized void flushBuffer() throws IOException {
+        if (!done) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void resetBuffer() {
+        if (!done) {
+            super.resetBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (!done) {
+            super.reset();
+            writer = null;
+        }
+    }
+
+    private final class GuardedOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            synchronized (AsyncResponse.this) {
+                if (!done) {
+                    getResponse().getOutputStream().write(b);
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            synchronized (AsyncResponse.this) {
+                if (!done) {
+                    getResponse().getOutputStream().write(b, off, len);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (AsyncResponse.this) {
+                if (!done) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Async responses are written with blocking I/O");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mlcdev.employeeapi.controller;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+
+import java.util.List;
+
+/**
+ * Strong entity tags computed from the DTO content with 64-bit FNV-1a, so a tag can be checked
+ * against {@code If-None-Match} before (and instead of) serializing the body. Every property that
+ * reaches the JSON, including whether it is absent, feeds the hash.
+ */
+final class ETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    static String of(EmployeeDTO dto) {
+        return format(hash(FNV_OFFSET_BASIS, dto));
+    }
+
+    /**
+     * {@code envelope} covers anything besides the items that reaches the body (e.g. page size
+     * and next cursor); pass null for a bare array.
+     */
+    static String of(List<EmployeeDTO> dtoList, String envelope) {
+        long hash = mix(FNV_OFFSET_BASIS, dtoList.size());
+        for (EmployeeDTO dto : dtoList) {
+            hash = hash(hash, dto);
+        }
+        return format(mix(hash, envelope));
+    }
+
+    /**
+     * Weak comparison, as required for If-None-Match.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals(ANY) || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long hash(long hash, EmployeeDTO dto) {
+        hash = mix(hash, dto.getId());
+        hash = mix(hash, dto.getName());
+        hash = mix(hash, dto.getSalary());
+        hash = mix(hash, dto.getHiringDate());
+        return mix(hash, dto.getRole());
+    }
+
+    private static long mix(long hash, Object value) {
+        if (value == null) {
+            return (hash ^ 0xff) * FNV_PRIME;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xfe) * FNV_PRIME;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static String format(long hash) {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -1,8 +1,29 @@
 package com.mlcdev.employeeapi.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mlcdev.employeeapi.config.ApplicationProperties;
+import com.mlcdev.employeeapi.dto.BulkDeleteDTO;
+import com.mlcdev.employeeapi.dto.BulkRaiseDTO;
+import com.mlcdev.employeeapi.dto.Cursor;
+import com.mlcdev.employeeapi.dto.EmployeeBatchDTO;
 import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.dto.ImportReportDTO;
+import com.mlcdev.employeeapi.dto.JobDTO;
+import com.mlcdev.employeeapi.dto.PageDTO;
 import com.mlcdev.employeeapi.exception.InvalidParamException;
+import com.mlcdev.employeeapi.exception.NotFoundException;
+import com.mlcdev.employeeapi.importer.EmployeeRecordReader;
+import com.mlcdev.employeeapi.importer.ImportFormat;
+import com.mlcdev.employeeapi.limit.AdaptiveConcurrencyLimiter;
+import com.mlcdev.employeeapi.model.EmployeeField;
+import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.EmployeeFilter;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
@@ -10,19 +31,62 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.mlcdev.employeeapi.search.NameSearchIndex;
 import com.mlcdev.employeeapi.service.EmployeeService;
+import com.mlcdev.employeeapi.stats.EmployeeCounter;
+import com.mlcdev.employeeapi.stats.EmployeeStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-@WebServlet("/employee/*")
+@WebServlet(value = "/employee/*", asyncSupported = true)
 public class EmployeeController extends HttpServlet {
     private static final int DEFAULT_PAGE = 1;
     private static final int DEFAULT_SIZE = 10;
+    private static final String BATCH_PATH = "/batch";
+    private static final String PATCH_METHOD = "PATCH";
+    private static final String AVAILABLE_FIELDS = Arrays.stream(EmployeeField.values()).map(EmployeeField::getJsonName).collect(Collectors.joining(", "));
+    private static final String RETURN_MINIMAL = "return=minimal";
+    private static final String EXPORT_PATH = "/export";
+    private static final String STATS_PATH = "/stats";
+    private static final String SEARCH_PATH = "/search";
+    private static final String BULK_RAISE_PATH = "/bulk/raise";
+    private static final String BULK_DELETE_PATH = "/bulk/delete";
+    private static final String JOBS_PATH = "/jobs/";
+    private static final String IMPORT_PATH = "/import";
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final String JSON_FORMAT = "json";
+    private static final String NDJSON_FORMAT = "ndjson";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final TypeReference<List<EmployeeDTO>> EMPLOYEE_LIST_TYPE = new TypeReference<>() {};
     private EmployeeService service;
     private ObjectMapper objectMapper;
+    private ObjectWriter jsonWriter;
+    private AsyncRequestExecutor asyncExecutor;
+    private EmployeeStatistics statistics;
+    private NameSearchIndex searchIndex;
+    private EmployeeCounter counter;
+    private AdaptiveConcurrencyLimiter limiter;
+    private long importSyncMaxBytes;
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeController.class);
 
     @Override
@@ -30,46 +94,342 @@ public class EmployeeController extends HttpServlet {
         ServletContext context = config.getServletContext();
         service = (EmployeeService) context.getAttribute("EmployeeService");
         objectMapper = (ObjectMapper) context.getAttribute("ObjectMapper");
+        jsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        asyncExecutor = (AsyncRequestExecutor) context.getAttribute("AsyncRequestExecutor");
+        statistics = (EmployeeStatistics) context.getAttribute("EmployeeStatistics");
+        searchIndex = (NameSearchIndex) context.getAttribute("NameSearchIndex");
+        counter = (EmployeeCounter) context.getAttribute("EmployeeCounter");
+        limiter = (AdaptiveConcurrencyLimiter) context.getAttribute("ConcurrencyLimiter");
+        importSyncMaxBytes = ApplicationProperties.getLong("import.syncMaxBytes", 10L * 1024 * 1024);
+    }
+
+    @Override
+    protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (limiter == null || !isLimited(req)) {
+            if (asyncExecutor != null && req.isAsyncSupported()) {
+                asyncExecutor.dispatch(req, resp, response -> dispatch(req, response));
+                return;
+            }
+            dispatch(req, resp);
+            return;
+        }
+        long start = limiter.acquire();
+        if (asyncExecutor != null && req.isAsyncSupported()) {
+            try {
+                asyncExecutor.dispatch(req, resp, response -> limitedDispatch(req, response, start),
+                        () -> limiter.release(start, true));
+            } catch (RuntimeException e) {
+                limiter.release(start, false);
+                throw e;
+            }
+            return;
+        }
+        limitedDispatch(req, resp, start);
+    }
+
+    private void limitedDispatch(HttpServletRequest req, HttpServletResponse resp, long start) throws ServletException, IOException {
+        boolean overloaded = false;
+        try {
+            dispatch(req, resp);
+        } catch (RuntimeException e) {
+            overloaded = AdaptiveConcurrencyLimiter.isOverload(e);
+            throw e;
+        } finally {
+            limiter.release(start, overloaded);
+        }
+    }
+
+    /**
+     * Only the short database-bound requests are limited. Streaming export, import and batch
+     * inserts run for as long as the transfer and their multi-row transaction take, so their
+     * latency says nothing about congestion; stats, search and job status are served from memory.
+     */
+    private boolean isLimited(HttpServletRequest req) {
+        String pathInfo = req.getPathInfo();
+        return pathInfo == null || !(EXPORT_PATH.equals(pathInfo) || IMPORT_PATH.equals(pathInfo)
+                || BATCH_PATH.equals(pathInfo) || STATS_PATH.equals(pathInfo) || SEARCH_PATH.equals(pathInfo)
+                || pathInfo.startsWith(JOBS_PATH));
+    }
+
+    private void dispatch(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (PATCH_METHOD.equals(req.getMethod())) {
+            doPatch(req, resp);
+            return;
+        }
+        super.service(req, resp);
     }
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        String json;
+        if (EXPORT_PATH.equals(req.getPathInfo())) {
+            doGetExport(req, resp);
+            return;
+        }
+        if (STATS_PATH.equals(req.getPathInfo())) {
+            doGetStats(resp);
+            return;
+        }
+        if (SEARCH_PATH.equals(req.getPathInfo())) {
+            doGetSearch(req, resp);
+            return;
+        }
+        if (req.getPathInfo() != null && req.getPathInfo().startsWith(JOBS_PATH)) {
+            doGetJob(req, resp);
+            return;
+        }
+        if (getIdFromPath(req) == null && req.getParameter("ids") != null) {
+            doGetByIds(req, resp);
+            return;
+        }
+        Object body;
+        String etag;
         Long id = getIdFromPath(req);
-        if (id == null) {
+        Set<EmployeeField> fields = parseFieldsParam(req.getParameter("fields"));
+        EmployeeFilter filter = id == null ? parseFilterParams(req) : EmployeeFilter.NONE;
+        boolean defaultQuery = fields == null && filter.isEmpty();
+        if (id == null && req.getParameter("after") != null) {
+            int size = parseIntegerParam("size", req.getParameter("size"), DEFAULT_SIZE);
+            long afterId = Cursor.decode(req.getParameter("after"));
+            PageDTO<EmployeeDTO> cursorPage = defaultQuery
+                    ? service.findAllAfter(afterId, size)
+                    : service.findAllAfter(afterId, size, fieldsOrAll(fields), filter);
+            if (isEnvelopeRequested(req)) {
+                cursorPage.setTotal(countOf(filter));
+            }
+            etag = ETags.of(cursorPage.getItems(), cursorPage.getSize() + "|" + cursorPage.getNext() + "|" + cursorPage.getTotal());
+            body = cursorPage;
+        } else if (id == null) {
             List<EmployeeDTO> employeePage;
             String pageParam = req.getParameter("page");
             String sizeParam = req.getParameter("size");
             int page = parseIntegerParam("page", pageParam, DEFAULT_PAGE);
             int size = parseIntegerParam("size", sizeParam, DEFAULT_SIZE);
-            employeePage = service.findAll(page, size);
-            json = objectMapper.writeValueAsString(employeePage);
+            employeePage = defaultQuery
+                    ? service.findAll(page, size)
+                    : service.findAll(page, size, fieldsOrAll(fields), filter);
+            if (isEnvelopeRequested(req)) {
+                PageDTO<EmployeeDTO> envelope = toEnvelope(employeePage, page, size, countOf(filter));
+                etag = ETags.of(employeePage, page + "|" + size + "|" + envelope.getTotal() + "|" + envelope.getNext());
+                body = envelope;
+            } else {
+                etag = ETags.of(employeePage, null);
+                body = employeePage;
+            }
         } else {
-            EmployeeDTO employee = service.findById(id);
-            json = objectMapper.writeValueAsString(employee);
+            EmployeeDTO employee = fields == null ? service.findById(id) : service.findById(id, fields);
+            etag = ETags.of(employee);
+            body = employee;
+        }
+        resp.setHeader("ETag", etag);
+        if (ETags.matches(req.getHeader("If-None-Match"), etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        writeJson(resp, HttpServletResponse.SC_OK, body);
+    }
+
+    private void doGetByIds(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        EmployeeBatchDTO batch = service.findByIds(parseIdsParam(req.getParameter("ids")));
+        String etag = ETags.of(batch.getItems(), batch.getMissing().toString());
+        resp.setHeader("ETag", etag);
+        if (ETags.matches(req.getHeader("If-None-Match"), etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        writeJson(resp, HttpServletResponse.SC_OK, batch);
+    }
+
+    /**
+     * Wraps an offset page in {@code {items, page, size, total, next}}. Pages are ordered by ID,
+     * so {@code next} is a keyset cursor that continues right after this page.
+     */
+    private PageDTO<EmployeeDTO> toEnvelope(List<EmployeeDTO> items, int page, int size, Long total) {
+        boolean hasNext = items.size() == size && (total == null || (long) page * size < total);
+        String next = hasNext ? Cursor.encode(items.getLast().getId()) : null;
+        PageDTO<EmployeeDTO> envelope = new PageDTO<>(items, size, next);
+        envelope.setPage(page);
+        envelope.setTotal(total);
+        return envelope;
+    }
+
+    private boolean isEnvelopeRequested(HttpServletRequest req) {
+        return Boolean.parseBoolean(req.getParameter("envelope"));
+    }
+
+    private Long countOf(EmployeeFilter filter) {
+        return counter == null ? null : counter.count(filter);
+    }
+
+    private void doGetExport(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String format = req.getParameter("format");
+        boolean ndjson = NDJSON_FORMAT.equalsIgnoreCase(format);
+        if (!ndjson && format != null && !JSON_FORMAT.equalsIgnoreCase(format)) {
+            throw new InvalidParamException("The 'format' field must be 'json' or 'ndjson'");
         }
+        ObjectWriter writer = objectMapper.writerFor(EmployeeDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
         resp.setStatus(HttpServletResponse.SC_OK);
-        resp.getWriter().write(json);
+        if (ndjson) {
+            resp.setContentType(NDJSON_CONTENT_TYPE);
+            writer = writer.withRootValueSeparator("\n");
+        }
+        OutputStream out = resp.getOutputStream();
+        try (SequenceWriter sequenceWriter = ndjson ? writer.writeValues(out) : writer.writeValuesAsArray(out)) {
+            service.exportAll(sequenceWriter::write);
+        }
+    }
+
+    private void doGetStats(HttpServletResponse resp) throws IOException {
+        if (statistics == null) {
+            throw new NotFoundException("Employee statistics are not available");
+        }
+        writeJson(resp, HttpServletResponse.SC_OK, statistics.snapshot());
+    }
+
+    private void doGetSearch(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (searchIndex == null) {
+            throw new NotFoundException("Employee search is not available");
+        }
+        String query = req.getParameter("q");
+        if (query == null || query.isBlank()) {
+            throw new InvalidParamException("The 'q' field is required");
+        }
+        int limit = parseIntegerParam("limit", req.getParameter("limit"), DEFAULT_SEARCH_LIMIT);
+        if (limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidParamException("The 'limit' field must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        writeJson(resp, HttpServletResponse.SC_OK, searchIndex.search(query, limit));
+    }
+
+    private void doGetJob(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        long jobId;
+        try {
+            jobId = Long.parseLong(req.getPathInfo().substring(JOBS_PATH.length()));
+        } catch (NumberFormatException e) {
+            throw new InvalidParamException("The job 'id' parameter must be a numeric value.");
+        }
+        writeJson(resp, HttpServletResponse.SC_OK, service.findJob(jobId));
     }
 
     @Override
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        EmployeeDTO dtoReceived = objectMapper.readValue(req.getReader(), EmployeeDTO.class);
+        if (BATCH_PATH.equals(req.getPathInfo())) {
+            doPostBatch(req, resp);
+            return;
+        }
+        if (IMPORT_PATH.equals(req.getPathInfo())) {
+            doPostImport(req, resp);
+            return;
+        }
+        if (BULK_RAISE_PATH.equals(req.getPathInfo())) {
+            BulkRaiseDTO raise = objectMapper.readValue(req.getInputStream(), BulkRaiseDTO.class);
+            writeAccepted(req, resp, service.raiseSalaries(raise));
+            return;
+        }
+        if (BULK_DELETE_PATH.equals(req.getPathInfo())) {
+            BulkDeleteDTO delete = objectMapper.readValue(req.getInputStream(), BulkDeleteDTO.class);
+            writeAccepted(req, resp, service.deleteAll(delete));
+            return;
+        }
+        EmployeeDTO dtoReceived = objectMapper.readValue(req.getInputStream(), EmployeeDTO.class);
         EmployeeDTO dtoSaved = service.add(dtoReceived);
-        String json = objectMapper.writeValueAsString(dtoSaved);
-        resp.setStatus(HttpServletResponse.SC_CREATED);
-        resp.getWriter().write(json);
+        writeJson(resp, HttpServletResponse.SC_CREATED, dtoSaved);
+    }
+
+    private void doPostBatch(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        List<EmployeeDTO> dtoListReceived = objectMapper.readValue(req.getInputStream(), EMPLOYEE_LIST_TYPE);
+        List<EmployeeDTO> dtoListSaved = service.addAll(dtoListReceived);
+        writeJson(resp, HttpServletResponse.SC_CREATED, dtoListSaved);
+    }
+
+    /**
+     * Small bodies are imported while they are read and answered with the report. Bodies above
+     * {@code import.syncMaxBytes}, bodies of unknown length (chunked uploads, which could be any
+     * size), or any body with {@code ?async=true}, are spooled to a temporary file and imported by
+     * a background job.
+     */
+    private void doPostImport(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(req.getContentType());
+        if (format == null) {
+            throw new InvalidParamException("The import Content-Type must be " + ImportFormat.CSV.getContentType()
+                    + " or " + ImportFormat.NDJSON.getContentType());
+        }
+        Charset charset = StandardCharsets.UTF_8;
+        if (req.getCharacterEncoding() != null) {
+            try {
+                charset = Charset.forName(req.getCharacterEncoding());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidParamException("Unsupported charset: " + req.getCharacterEncoding());
+            }
+        }
+        long contentLength = req.getContentLengthLong();
+        if ("true".equals(req.getParameter("async")) || contentLength < 0 || contentLength > importSyncMaxBytes) {
+            Path file = Files.createTempFile("employee-import-", ".tmp");
+            try {
+                try (InputStream body = req.getInputStream()) {
+                    Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                writeAccepted(req, resp, service.importInBackground(file, format, charset));
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return;
+        }
+        ImportReportDTO report;
+        try (EmployeeRecordReader reader = EmployeeRecordReader.open(format, new InputStreamReader(req.getInputStream(), charset))) {
+            report = service.importEmployees(reader);
+        }
+        writeJson(resp, HttpServletResponse.SC_OK, report);
+    }
+
+    /**
+     * Bulk operations run in the background; the client polls the job resource for progress.
+     */
+    private void writeAccepted(HttpServletRequest req, HttpServletResponse resp, JobDTO job) throws IOException {
+        resp.setHeader("Location", req.getContextPath() + req.getServletPath() + JOBS_PATH + job.getId());
+        writeJson(resp, HttpServletResponse.SC_ACCEPTED, job);
+    }
+
+    /**
+     * Serializes the body straight into the response stream as UTF-8, without building the
+     * JSON as a String first. The stream is left open for the container (and the compression
+     * filter) to finish.
+     */
+    private void writeJson(HttpServletResponse resp, int status, Object body) throws IOException {
+        resp.setStatus(status);
+        jsonWriter.writeValue(resp.getOutputStream(), body);
     }
 
     @Override
     protected void doPut(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         Long id = getIdFromPath(req);
-        EmployeeDTO receivedDto = objectMapper.readValue(req.getReader(), EmployeeDTO.class);
+        EmployeeDTO receivedDto = objectMapper.readValue(req.getInputStream(), EmployeeDTO.class);
         receivedDto.setId(id);
         EmployeeDTO updatedDto = service.update(receivedDto);
-        String json = objectMapper.writeValueAsString(updatedDto);
-        resp.setStatus(HttpServletResponse.SC_OK);
-        resp.getWriter().write(json);
+        writeJson(resp, HttpServletResponse.SC_OK, updatedDto);
+    }
+
+    protected void doPatch(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Long id = getIdFromPath(req);
+        JsonNode body = objectMapper.readTree(req.getInputStream());
+        if (body == null || !body.isObject()) {
+            throw new InvalidParamException("The request body must be a JSON object");
+        }
+        body.properties().forEach(field -> {
+            if (field.getValue().isNull()) {
+                throw new InvalidParamException("The '" + field.getKey() + "' field can't be null");
+            }
+        });
+        EmployeeDTO changes = objectMapper.treeToValue(body, EmployeeDTO.class);
+        String prefer = req.getHeader("Prefer");
+        if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+            service.patchWithoutResult(id, changes);
+            resp.setHeader("Preference-Applied", RETURN_MINIMAL);
+            resp.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            return;
+        }
+        EmployeeDTO patchedDto = service.patch(id, changes);
+        writeJson(resp, HttpServletResponse.SC_OK, patchedDto);
     }
 
     @Override
@@ -93,6 +453,24 @@ public class EmployeeController extends HttpServlet {
 
     }
 
+    /**
+     * Parses {@code ?ids=1,2,3}; blank entries such as a trailing comma are ignored.
+     */
+    private List<Long> parseIdsParam(String paramValue) {
+        List<Long> ids = new ArrayList<>();
+        for (String value : paramValue.split(",")) {
+            if (value.isBlank()) {
+                continue;
+            }
+            try {
+                ids.add(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                throw new InvalidParamException("The 'ids' field must be a comma-separated list of numeric IDs");
+            }
+        }
+        return ids;
+    }
+
     private int parseIntegerParam(String paramName, String paramValue, int defaultValue) {
         if (paramValue == null || paramValue.isEmpty()) {
             return defaultValue;
@@ -105,6 +483,72 @@ public class EmployeeController extends HttpServlet {
         }
     }
 
+    /**
+     * Parses {@code ?fields=id,name}. Returns null (all fields) when absent. The ID is always
+     * part of the result.
+     */
+    private Set<EmployeeField> parseFieldsParam(String paramValue) {
+        if (paramValue == null || paramValue.isBlank()) {
+            return null;
+        }
+        EnumSet<EmployeeField> fields = EnumSet.of(EmployeeField.ID);
+        for (String name : paramValue.split(",")) {
+            EmployeeField field = EmployeeField.fromJsonName(name.trim());
+            if (field == null) {
+                throw new InvalidParamException("Invalid field: " + name.trim() + ". Available fields: " + AVAILABLE_FIELDS);
+            }
+            fields.add(field);
+        }
+        return EmployeeField.isAll(fields) ? null : fields;
+    }
+
+    /**
+     * Parses the optional list filters {@code role}, {@code minSalary}, {@code maxSalary},
+     * {@code hiredFrom} and {@code hiredTo} (ISO dates).
+     */
+    private EmployeeFilter parseFilterParams(HttpServletRequest req) {
+        String roleParam = req.getParameter("role");
+        Role role = null;
+        if (roleParam != null && !roleParam.isBlank()) {
+            try {
+                role = Role.valueOf(roleParam.trim());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidParamException("Invalid role: " + roleParam + ". Available roles: " + Arrays.toString(Role.values()));
+            }
+        }
+        return new EmployeeFilter(role,
+                parseDecimalParam("minSalary", req.getParameter("minSalary")),
+                parseDecimalParam("maxSalary", req.getParameter("maxSalary")),
+                parseDateParam("hiredFrom", req.getParameter("hiredFrom")),
+                parseDateParam("hiredTo", req.getParameter("hiredTo")));
+    }
+
+    private BigDecimal parseDecimalParam(String paramName, String paramValue) {
+        if (paramValue == null || paramValue.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(paramValue);
+        } catch (NumberFormatException e) {
+            throw new InvalidParamException("The '" + paramName + "' field must be a numeric value");
+        }
+    }
+
+    private LocalDate parseDateParam(String paramName, String paramValue) {
+        if (paramValue == null || paramValue.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(paramValue);
+        } catch (DateTimeParseException e) {
+            throw new InvalidParamException("The '" + paramName + "' field must be a date in the format yyyy-MM-dd");
+        }
+    }
+
+    private Set<EmployeeField> fieldsOrAll(Set<EmployeeField> fields) {
+        return fields == null ? EmployeeField.ALL : fields;
+    }
+
     public static int getDefaultPage(){
         return DEFAULT_PAGE;
     }
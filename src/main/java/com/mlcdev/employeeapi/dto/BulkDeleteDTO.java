@@ -0,0 +1,26 @@
+package com.mlcdev.employeeapi.dto;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /employee/bulk/delete}.
+ */
+public class BulkDeleteDTO {
+
+    private List<Long> ids;
+
+    public BulkDeleteDTO() {
+    }
+
+    public BulkDeleteDTO(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
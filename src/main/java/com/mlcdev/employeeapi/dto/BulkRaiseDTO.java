@@ -0,0 +1,78 @@
+package com.mlcdev.employeeapi.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Body of {@code POST /employee/bulk/raise}. The filter fields match the {@code GET /employee}
+ * query parameters; omitted ones do not restrict the update.
+ */
+public class BulkRaiseDTO {
+
+    private BigDecimal percent;
+    private String role;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private LocalDate hiredFrom;
+    private LocalDate hiredTo;
+
+    public BulkRaiseDTO() {
+    }
+
+    public BulkRaiseDTO(BigDecimal percent, String role, BigDecimal minSalary, BigDecimal maxSalary, LocalDate hiredFrom, LocalDate hiredTo) {
+        this.percent = percent;
+        this.role = role;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.hiredFrom = hiredFrom;
+        this.hiredTo = hiredTo;
+    }
+
+    public BigDecimal getPercent() {
+        return percent;
+    }
+
+    public void setPercent(BigDecimal percent) {
+        this.percent = percent;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public LocalDate getHiredFrom() {
+        return hiredFrom;
+    }
+
+    public void setHiredFrom(LocalDate hiredFrom) {
+        this.hiredFrom = hiredFrom;
+    }
+
+    public LocalDate getHiredTo() {
+        return hiredTo;
+    }
+
+    public void setHiredTo(LocalDate hiredTo) {
+        this.hiredTo = hiredTo;
+    }
+}
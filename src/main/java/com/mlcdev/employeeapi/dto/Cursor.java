@@ -0,0 +1,43 @@
+package com.mlcdev.employeeapi.dto;
+
+import com.mlcdev.employeeapi.exception.InvalidParamException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination token. The token carries the sort key and the last value seen,
+ * so the next page can seek directly on the index instead of skipping rows with OFFSET.
+ */
+public final class Cursor {
+
+    private static final String ID_KEY = "id";
+    private static final String SEPARATOR = ":";
+
+    private Cursor() {
+    }
+
+    public static String encode(long lastId) {
+        String raw = ID_KEY + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the last ID seen by the previous page, or 0 when the token is empty (first page).
+     */
+    public static long decode(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0 || !raw.substring(0, separatorIndex).equals(ID_KEY)) {
+                throw new InvalidParamException("The 'after' cursor is invalid");
+            }
+            return Long.parseLong(raw.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParamException("The 'after' cursor is invalid");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mlcdev.employeeapi.dto;
+
+import java.util.List;
+
+/**
+ * Body of {@code GET /employee?ids=...}: the found employees in request order, and the
+ * requested IDs that don't exist.
+ */
+public class EmployeeBatchDTO {
+
+    private List<EmployeeDTO> items;
+    private List<Long> missing;
+
+    public EmployeeBatchDTO() {
+    }
+
+    public EmployeeBatchDTO(List<EmployeeDTO> items, List<Long> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    public List<EmployeeDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeDTO> items) {
+        this.items = items;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<Long> missing) {
+        this.missing = missing;
+    }
+}
@@ -1,11 +1,13 @@
 package com.mlcdev.employeeapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.mlcdev.employeeapi.model.Employee;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Objects;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EmployeeDTO {
     private Long id;
     private String name;
@@ -92,7 +94,7 @@ public class EmployeeDTO {
     }
 
     public void setRole(String role) {
-        this.role = role.toUpperCase();
+        this.role = role != null ? role.toUpperCase() : null;
     }
 
     @Override
@@ -0,0 +1,44 @@
+package com.mlcdev.employeeapi.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+public class EmployeeStatsDTO {
+
+    private SalaryStatsDTO overall;
+    private Map<String, SalaryStatsDTO> roles;
+    private Instant reconciledAt;
+
+    public EmployeeStatsDTO() {
+    }
+
+    public EmployeeStatsDTO(SalaryStatsDTO overall, Map<String, SalaryStatsDTO> roles, Instant reconciledAt) {
+        this.overall = overall;
+        this.roles = roles;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public SalaryStatsDTO getOverall() {
+        return overall;
+    }
+
+    public void setOverall(SalaryStatsDTO overall) {
+        this.overall = overall;
+    }
+
+    public Map<String, SalaryStatsDTO> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(Map<String, SalaryStatsDTO> roles) {
+        this.roles = roles;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(Instant reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.mlcdev.employeeapi.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of {@code POST /employee/import}. Only the first rejected lines are listed;
+ * {@code errorsTruncated} tells when there were more.
+ */
+public class ImportReportDTO {
+
+    private long records;
+    private long imported;
+    private long rejected;
+    private List<RecordErrorDTO> errors;
+    private boolean errorsTruncated;
+
+    public ImportReportDTO() {
+    }
+
+    public ImportReportDTO(long records, long imported, long rejected, List<RecordErrorDTO> errors) {
+        this.records = records;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = errors;
+        this.errorsTruncated = rejected > errors.size();
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public void setRecords(long records) {
+        this.records = records;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<RecordErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RecordErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mlcdev.employeeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobDTO {
+
+    private long id;
+    private String type;
+    private String status;
+    private Long total;
+    private long processed;
+    private long affected;
+    private String error;
+    private Instant createdAt;
+    private Instant finishedAt;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<RecordErrorDTO> errors;
+
+    public JobDTO() {
+    }
+
+    public JobDTO(long id, String type, String status, Long total, long processed, long affected, String error,
+                  Instant createdAt, Instant finishedAt) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.total = total;
+        this.processed = processed;
+        this.affected = affected;
+        this.error = error;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getAffected() {
+        return affected;
+    }
+
+    public void setAffected(long affected) {
+        this.affected = affected;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public List<RecordErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RecordErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mlcdev.employeeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class PageDTO<T> {
+
+    private List<T> items;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer page;
+    private int size;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+    private String next;
+
+    public PageDTO() {
+    }
+
+    public PageDTO(List<T> items, int size, String next) {
+        this.items = items;
+        this.size = size;
+        this.next = next;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+}
@@ -0,0 +1,34 @@
+package com.mlcdev.employeeapi.dto;
+
+/**
+ * A rejected import line and the reason it was rejected.
+ */
+public class RecordErrorDTO {
+
+    private long line;
+    private String message;
+
+    public RecordErrorDTO() {
+    }
+
+    public RecordErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
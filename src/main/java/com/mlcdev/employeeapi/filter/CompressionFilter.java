@@ -0,0 +1,405 @@
+package com.mlcdev.employeeapi.filter;
+
+import com.mlcdev.employeeapi.config.ApplicationProperties;
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses responses with the encoding negotiated from {@code Accept-Encoding} (gzip preferred,
+ * then deflate). The first {@code compression.minSize} bytes are held back; a response that ends
+ * below that size, or whose status is an error, is sent unchanged. Past the threshold the body is
+ * deflated as it is written, so streamed exports never sit in memory. Deflaters come from a pool,
+ * which is why gzip framing is written here instead of using {@code GZIPOutputStream}.
+ * <p>
+ * A strong {@code ETag} becomes weak once the body is compressed, since the bytes differ from
+ * the identity representation. In async mode the body is finished by
+ * {@link #finish(ServletResponse)} before the async context completes.
+ */
+@WebFilter(value = "/*", asyncSupported = true)
+public class CompressionFilter implements Filter {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+    private static final int DEFAULT_MIN_SIZE = 1024;
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private boolean enabled = true;
+    private int minSize = DEFAULT_MIN_SIZE;
+    private DeflaterPool gzipPool;
+    private DeflaterPool deflatePool;
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        enabled = ApplicationProperties.getBoolean("compression.enabled", true);
+        minSize = ApplicationProperties.getInt("compression.minSize", DEFAULT_MIN_SIZE);
+        int level = ApplicationProperties.getInt("compression.level", Deflater.DEFAULT_COMPRESSION);
+        int maxIdle = ApplicationProperties.getInt("compression.poolSize", Runtime.getRuntime().availableProcessors() * 2);
+        gzipPool = new DeflaterPool(maxIdle, level, true);
+        deflatePool = new DeflaterPool(maxIdle, level, false);
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) servletRequest;
+        HttpServletResponse httpResponse = (HttpServletResponse) servletResponse;
+        String encoding = enabled ? negotiate(httpRequest.getHeader("Accept-Encoding")) : null;
+        if (encoding == null) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+        httpResponse.addHeader("Vary", "Accept-Encoding");
+        CompressingResponse compressingResponse = new CompressingResponse(httpResponse, encoding,
+                GZIP.equals(encoding) ? gzipPool : deflatePool, minSize);
+        try {
+            filterChain.doFilter(servletRequest, compressingResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            compressingResponse.abort();
+            throw e;
+        }
+        if (!httpRequest.isAsyncStarted()) {
+            compressingResponse.finish();
+        }
+    }
+
+    /**
+     * Completes a compressed body written on another thread. No-op for unwrapped responses.
+     */
+    public static void finish(ServletResponse response) throws IOException {
+        ServletResponse current = response;
+        while (current instanceof ServletResponseWrapper wrapper) {
+            if (current instanceof CompressingResponse compressingResponse) {
+                compressingResponse.finish();
+                return;
+            }
+            current = wrapper.getResponse();
+        }
+    }
+
+    /**
+     * Picks gzip or deflate from an {@code Accept-Encoding} header, honouring q-values; gzip wins
+     * ties. Returns null when neither is acceptable.
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double wildcard = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case GZIP, "x-gzip" -> gzip = Math.max(gzip, q);
+                case DEFLATE -> deflate = Math.max(deflate, q);
+                case "*" -> wildcard = q;
+                default -> {
+                }
+            }
+        }
+        if (gzip < 0) {
+            gzip = wildcard;
+        }
+        if (deflate < 0) {
+            deflate = wildcard;
+        }
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        return deflate > 0 ? DEFLATE : null;
+    }
+
+    static class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletResponse response;
+        private final String encoding;
+        private final DeflaterPool pool;
+        private final int minSize;
+        private final ByteArrayOutputStream pending;
+        private final CompressingOutputStream stream = new CompressingOutputStream();
+        private final byte[] singleByte = new byte[1];
+        private PrintWriter writer;
+        private OutputStream target;
+        private Deflater deflater;
+        private CRC32 crc;
+        private byte[] deflateBuffer;
+        private long contentLength = -1;
+        private boolean finished;
+
+        CompressingResponse(HttpServletResponse response, String encoding, DeflaterPool pool, int minSize) {
+            super(response);
+            this.response = response;
+            this.encoding = encoding;
+            this.pool = pool;
+            this.minSize = minSize;
+            this.pending = new ByteArrayOutputStream(Math.max(minSize, 32));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                String characterEncoding = getCharacterEncoding();
+                Charset charset = characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.ISO_8859_1;
+                writer = new PrintWriter(new OutputStreamWriter(stream, charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        /**
+         * Held until the body is known to be sent as is. Once passing through it goes straight to
+         * the response; once compressing it no longer applies and is dropped.
+         */
+        @Override
+        public void setContentLengthLong(long len) {
+            contentLength = len;
+            if (target != null && deflater == null) {
+                response.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        /**
+         * Refused once compression has started: the compressed stream's header and dictionary are
+         * already in the buffer, and bytes written after a partial reset could not be decoded.
+         * Use {@link #reset()} instead, which starts the body over.
+         */
+        @Override
+        public void resetBuffer() {
+            if (deflater != null) {
+                throw new IllegalStateException("The buffer can't be reset once compression has started");
+            }
+            super.resetBuffer();
+            pending.reset();
+        }
+
+        /**
+         * Clears the headers, the buffer and the compression state, so the next body is negotiated
+         * from scratch (an error status, for instance, is then sent uncompressed).
+         */
+        @Override
+        public void reset() {
+            super.reset();
+            pending.reset();
+            writer = null;
+            if (deflater != null) {
+                pool.release(deflater);
+                deflater = null;
+            }
+            target = null;
+            crc = null;
+            contentLength = -1;
+            finished = false;
+        }
+
+        boolean isCompressing() {
+            return deflater != null;
+        }
+
+        /**
+         * Writes whatever is still held back and closes the compressed stream.
+         */
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+            finished = true;
+            if (target == null) {
+                if (pending.size() == 0) {
+                    if (contentLength >= 0) {
+                        response.setContentLengthLong(contentLength);
+                    }
+                    return;
+                }
+                response.setContentLength(pending.size());
+                OutputStream out = response.getOutputStream();
+                pending.writeTo(out);
+                out.flush();
+                return;
+            }
+            if (deflater != null) {
+                try {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        drainDeflater();
+                    }
+                    if (GZIP.equals(encoding)) {
+                        writeGzipTrailer();
+                    }
+                } finally {
+                    pool.release(deflater);
+                    deflater = null;
+                }
+            }
+            target.flush();
+        }
+
+        /**
+         * Drops the held-back bytes after a failure, so the error handler can write its own body.
+         * While nothing is committed the response is also reset, which removes the compressed
+         * bytes already buffered and the {@code Content-Encoding}, {@code Vary} and weakened
+         * {@code ETag} headers that no longer describe the body.
+         */
+        void abort() {
+            finished = true;
+            pending.reset();
+            if (deflater != null) {
+                pool.release(deflater);
+                deflater = null;
+            }
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            if (finished) {
+                throw new IOException("The response has already been completed");
+            }
+            if (target == null) {
+                if (pending.size() + length < minSize) {
+                    pending.write(bytes, offset, length);
+                    return;
+                }
+                start();
+            }
+            if (deflater == null) {
+                target.write(bytes, offset, length);
+                return;
+            }
+            if (crc != null) {
+                crc.update(bytes, offset, length);
+            }
+            deflater.setInput(bytes, offset, length);
+            while (!deflater.needsInput()) {
+                drainDeflater();
+            }
+        }
+
+        /**
+         * Past the threshold: decides between compressing and passing through, then replays the
+         * held-back bytes.
+         */
+        private void start() throws IOException {
+            boolean compress = response.getStatus() < HttpServletResponse.SC_BAD_REQUEST
+                    && response.getHeader("Content-Encoding") == null;
+            if (compress) {
+                response.setHeader("Content-Encoding", encoding);
+                String etag = response.getHeader("ETag");
+                if (etag != null && !etag.startsWith("W/")) {
+                    response.setHeader("ETag", "W/" + etag);
+                }
+                deflater = pool.acquire();
+                deflateBuffer = new byte[8192];
+            } else if (contentLength >= 0) {
+                response.setContentLengthLong(contentLength);
+            }
+            target = response.getOutputStream();
+            if (compress && GZIP.equals(encoding)) {
+                crc = new CRC32();
+                target.write(GZIP_HEADER);
+            }
+            byte[] held = pending.toByteArray();
+            pending.reset();
+            if (held.length > 0) {
+                write(held, 0, held.length);
+            }
+        }
+
+        private void drainDeflater() throws IOException {
+            int length = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.NO_FLUSH);
+            if (length > 0) {
+                target.write(deflateBuffer, 0, length);
+            }
+        }
+
+        private void writeGzipTrailer() throws IOException {
+            writeIntLittleEndian((int) crc.getValue());
+            writeIntLittleEndian((int) deflater.getBytesRead());
+        }
+
+        private void writeIntLittleEndian(int value) throws IOException {
+            target.write(value & 0xff);
+            target.write((value >> 8) & 0xff);
+            target.write((value >> 16) & 0xff);
+            target.write((value >> 24) & 0xff);
+        }
+
+        private class CompressingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                singleByte[0] = (byte) b;
+                CompressingResponse.this.write(singleByte, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                CompressingResponse.this.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (target != null) {
+                    target.flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException("Non-blocking writes are not supported while compressing");
+            }
+        }
+    }
+}
@@ -6,7 +6,7 @@ import jakarta.servlet.annotation.WebFilter;
 import java.io.IOException;
 
 
-@WebFilter("/*")
+@WebFilter(value = "/*", asyncSupported = true)
 public class ContentTypeFilter implements Filter {
 
     @Override
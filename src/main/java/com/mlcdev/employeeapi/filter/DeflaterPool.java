@@ -0,0 +1,38 @@
+package com.mlcdev.employeeapi.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Bounded pool of {@link Deflater}s. A deflater owns native zlib buffers, so creating one per
+ * response is costly; returned instances are reset and reused, and the pool ends any that do
+ * not fit.
+ */
+class DeflaterPool {
+
+    private final ArrayBlockingQueue<Deflater> pool;
+    private final int level;
+    private final boolean nowrap;
+
+    DeflaterPool(int maxIdle, int level, boolean nowrap) {
+        this.pool = new ArrayBlockingQueue<>(maxIdle);
+        this.level = level;
+        this.nowrap = nowrap;
+    }
+
+    Deflater acquire() {
+        Deflater deflater = pool.poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+
+    void release(Deflater deflater) {
+        deflater.reset();
+        if (!pool.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    int idle() {
+        return pool.size();
+    }
+}
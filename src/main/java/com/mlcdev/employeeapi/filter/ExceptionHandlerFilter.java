@@ -1,6 +1,7 @@
 package com.mlcdev.employeeapi.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.mlcdev.employeeapi.config.ObjectMapperConfig;
 import com.mlcdev.employeeapi.dto.ErrorDTO;
 import com.mlcdev.employeeapi.exception.*;
@@ -12,10 +13,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
-@WebFilter("/*")
+@WebFilter(value = "/*", asyncSupported = true)
 public class ExceptionHandlerFilter implements Filter {
 
-    private final ObjectMapper objectMapper = ObjectMapperConfig.getMapper();
+    private static final ObjectWriter ERROR_WRITER = ObjectMapperConfig.getMapper().writerFor(ErrorDTO.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     private static final Logger LOGGER = LoggerFactory.getLogger(ExceptionHandlerFilter.class);
 
     @Override
@@ -23,13 +25,17 @@ public class ExceptionHandlerFilter implements Filter {
         try {
             filterChain.doFilter(servletRequest, servletResponse);
         } catch (Exception e) {
-            handleException((HttpServletResponse) servletResponse, e);
+            writeErrorResponse((HttpServletResponse) servletResponse, e);
         }
 
     }
 
 
-    private void handleException(HttpServletResponse response, Exception e) throws IOException {
+    /**
+     * Maps an exception to its status code and writes the standard error body.
+     * Also used by the async path, where exceptions never reach this filter.
+     */
+    public static void writeErrorResponse(HttpServletResponse response, Exception e) throws IOException {
         String message = "Internal Server Error";
         int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
         if (e instanceof InvalidParamException || e instanceof BusinessRuleException) {
@@ -40,7 +46,12 @@ public class ExceptionHandlerFilter implements Filter {
             status = HttpServletResponse.SC_NOT_FOUND;
             message = e.getMessage();
         }
-        if (e instanceof DatabaseException || e instanceof DBConnectionException) {
+        if (e instanceof ServiceUnavailableException unavailable) {
+            status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+            message = e.getMessage();
+            response.setHeader("Retry-After", String.valueOf(unavailable.getRetryAfterSeconds()));
+        }
+        if (e instanceof DatabaseException || e instanceof DBConnectionException || e instanceof ServiceUnavailableException) {
             message = e.getMessage();
         } else {
             e.printStackTrace();
@@ -50,9 +61,6 @@ public class ExceptionHandlerFilter implements Filter {
         response.setStatus(status);
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
-        String json = objectMapper.writeValueAsString(error);
-        response.getWriter().write(json);
-
-
+        ERROR_WRITER.writeValue(response.getOutputStream(), error);
     }
 }
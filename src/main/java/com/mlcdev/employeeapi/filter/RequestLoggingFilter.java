@@ -4,14 +4,25 @@ import jakarta.servlet.*;
 import jakarta.servlet.annotation.WebFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.mlcdev.employeeapi.logging.AccessLog;
+import com.mlcdev.employeeapi.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
-@WebFilter("/*")
+@WebFilter(value = "/*", asyncSupported = true)
 public class RequestLoggingFilter implements Filter{
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private MetricsRegistry metricsRegistry;
+    private AccessLog accessLog;
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        metricsRegistry = (MetricsRegistry) filterConfig.getServletContext().getAttribute("MetricsRegistry");
+        accessLog = (AccessLog) filterConfig.getServletContext().getAttribute("AccessLog");
+    }
 
 
     @Override
@@ -22,17 +33,70 @@ public class RequestLoggingFilter implements Filter{
         String method = httpRequest.getMethod();
         String path = httpRequest.getRequestURI();
         String queryString = httpRequest.getQueryString();
-        if (queryString != null){
-            LOGGER.info("{} {}?{} INCOMING",method, path,queryString);
-        }
-        else {
-            LOGGER.info("{} {} INCOMING",method, path);
+        if (LOGGER.isDebugEnabled()) {
+            if (queryString != null){
+                LOGGER.debug("{} {}?{} INCOMING",method, path,queryString);
+            }
+            else {
+                LOGGER.debug("{} {} INCOMING",method, path);
+            }
         }
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         filterChain.doFilter(servletRequest,servletResponse);
-        long duration = System.currentTimeMillis() - startTime;
-        int statusCode = ((HttpServletResponse) servletResponse).getStatus();
-        LOGGER.info("{} {} -> {} ({}ms)", method, path, statusCode, duration);
+        if (httpRequest.isAsyncStarted()) {
+            httpRequest.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    logCompletion(method, httpRequest, httpResponse, startTime);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+            return;
+        }
+        logCompletion(method, httpRequest, httpResponse, startTime);
 
     }
+
+    private void logCompletion(String method, HttpServletRequest httpRequest, HttpServletResponse httpResponse, long startTime) {
+        long durationNanos = System.nanoTime() - startTime;
+        int statusCode = httpResponse.getStatus();
+        String route = routeOf(httpRequest);
+        if (metricsRegistry != null) {
+            metricsRegistry.recordRequest(method, route, statusCode, durationNanos);
+        }
+        if (accessLog != null) {
+            accessLog.publish(method, httpRequest.getRequestURI(), route, statusCode, durationNanos);
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} {} -> {} ({}ms)", method, httpRequest.getRequestURI(), statusCode, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+    }
+
+    /**
+     * Collapses numeric path segments into {id} so every employee shares one latency series.
+     */
+    static String routeOf(HttpServletRequest httpRequest) {
+        String servletPath = httpRequest.getServletPath();
+        String pathInfo = httpRequest.getPathInfo();
+        if (pathInfo == null || pathInfo.isEmpty()) {
+            return servletPath;
+        }
+        StringBuilder route = new StringBuilder(servletPath);
+        for (String segment : pathInfo.substring(1).split("/", -1)) {
+            route.append('/');
+            boolean numeric = !segment.isEmpty() && segment.chars().allMatch(Character::isDigit);
+            route.append(numeric ? "{id}" : segment);
+        }
+        return route.toString();
+    }
 }
@@ -0,0 +1,159 @@
+package com.mlcdev.employeeapi.importer;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.exception.InvalidParamException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads comma separated employees. The first line is a header naming the {@code name},
+ * {@code salary}, {@code hiringDate} and {@code role} columns in any order; other columns
+ * (such as {@code id}) are ignored. Fields may be quoted, with {@code ""} as an escaped quote,
+ * but a record can't span lines.
+ */
+class CsvEmployeeReader implements EmployeeRecordReader {
+
+    private static final String REQUIRED_COLUMNS = "name, salary, hiringDate, role";
+
+    private final LineReader reader;
+    private long line;
+    private int columns = -1;
+    private int nameColumn = -1;
+    private int salaryColumn = -1;
+    private int hiringDateColumn = -1;
+    private int roleColumn = -1;
+
+    CsvEmployeeReader(LineReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (reader.wasTooLong()) {
+                if (columns < 0) {
+                    throw new InvalidParamException("The CSV header is longer than " + reader.getMaxLength() + " characters");
+                }
+                return ImportRecord.failed(line, "The line is longer than " + reader.getMaxLength() + " characters");
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (columns < 0) {
+                readHeader(text);
+                continue;
+            }
+            return parse(text);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader(String text) {
+        if (text.charAt(0) == '\uFEFF') {
+            text = text.substring(1);
+        }
+        List<String> header = split(text);
+        if (header == null) {
+            throw new InvalidParamException("The CSV header has an unterminated quote");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> nameColumn = i;
+                case "salary" -> salaryColumn = i;
+                case "hiringdate", "hiring_date" -> hiringDateColumn = i;
+                case "role" -> roleColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (nameColumn < 0 || salaryColumn < 0 || hiringDateColumn < 0 || roleColumn < 0) {
+            throw new InvalidParamException("The CSV header must contain the columns: " + REQUIRED_COLUMNS);
+        }
+        columns = header.size();
+    }
+
+    private ImportRecord parse(String text) {
+        List<String> fields = split(text);
+        if (fields == null) {
+            return ImportRecord.failed(line, "Unterminated quoted field");
+        }
+        if (fields.size() != columns) {
+            return ImportRecord.failed(line, "Expected " + columns + " columns but found " + fields.size());
+        }
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setName(valueOf(fields.get(nameColumn)));
+        employee.setRole(valueOf(fields.get(roleColumn)));
+        String salary = valueOf(fields.get(salaryColumn));
+        if (salary != null) {
+            try {
+                employee.setSalary(new BigDecimal(salary.trim()));
+            } catch (NumberFormatException e) {
+                return ImportRecord.failed(line, "The salary must be a decimal number");
+            }
+        }
+        String hiringDate = valueOf(fields.get(hiringDateColumn));
+        if (hiringDate != null) {
+            try {
+                employee.setHiringDate(LocalDate.parse(hiringDate.trim()));
+            } catch (DateTimeParseException e) {
+                return ImportRecord.failed(line, "The hiring date must use the yyyy-MM-dd format");
+            }
+        }
+        return ImportRecord.parsed(line, employee);
+    }
+
+    /**
+     * Empty fields are read as missing values, so they fail the same validation as absent
+     * JSON properties.
+     */
+    private static String valueOf(String field) {
+        return field.isEmpty() ? null : field;
+    }
+
+    /**
+     * Splits one line into fields, or returns null when a quote isn't closed.
+     */
+    static List<String> split(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mlcdev.employeeapi.importer;
+
+import com.mlcdev.employeeapi.config.ObjectMapperConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Pulls import records one line at a time, so the body is never held in memory and the client
+ * is only read as fast as the records are saved.
+ */
+public interface EmployeeRecordReader extends Closeable {
+
+    /**
+     * Longest line accepted, in characters. A longer line is skipped and reported as a rejected
+     * record; one employee needs a few hundred characters at most.
+     */
+    int MAX_LINE_LENGTH = 64 * 1024;
+
+    /**
+     * Returns the next record, or null at the end of the input. Blank lines are skipped.
+     */
+    ImportRecord next() throws IOException;
+
+    static EmployeeRecordReader open(ImportFormat format, Reader reader) {
+        LineReader lines = new LineReader(reader, MAX_LINE_LENGTH);
+        return switch (format) {
+            case CSV -> new CsvEmployeeReader(lines);
+            case NDJSON -> new NdjsonEmployeeReader(lines, ObjectMapperConfig.getMapper());
+        };
+    }
+}
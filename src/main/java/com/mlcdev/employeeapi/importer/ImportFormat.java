@@ -0,0 +1,39 @@
+package com.mlcdev.employeeapi.importer;
+
+import java.util.Locale;
+
+/**
+ * Body formats accepted by {@code POST /employee/import}, selected by the request Content-Type.
+ */
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    ImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the format for a Content-Type header (parameters such as {@code charset} are
+     * ignored), or null when it isn't supported.
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        int separator = contentType.indexOf(';');
+        String mediaType = (separator < 0 ? contentType : contentType.substring(0, separator)).trim().toLowerCase(Locale.ROOT);
+        for (ImportFormat format : values()) {
+            if (format.contentType.equals(mediaType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mlcdev.employeeapi.importer;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+
+/**
+ * One parsed line of an import. Either {@code employee} or {@code error} is set.
+ */
+public record ImportRecord(long line, EmployeeDTO employee, String error) {
+
+    static ImportRecord parsed(long line, EmployeeDTO employee) {
+        return new ImportRecord(line, employee, null);
+    }
+
+    static ImportRecord failed(long line, String error) {
+        return new ImportRecord(line, null, error);
+    }
+}
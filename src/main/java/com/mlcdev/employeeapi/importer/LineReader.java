@@ -0,0 +1,97 @@
+package com.mlcdev.employeeapi.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines like {@link java.io.BufferedReader#readLine()}, but never holds more than
+ * {@code maxLength} characters of one line. The rest of a longer line is skipped up to the next
+ * line break and {@link #wasTooLong()} reports it, so a body without line breaks can't fill the
+ * heap.
+ */
+class LineReader implements Closeable {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean tooLong;
+
+    LineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the next line without its terminator, or null at the end of the input. A line
+     * longer than {@code maxLength} is returned as an empty string.
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        tooLong = false;
+        boolean started = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    return started ? finishLine() : null;
+                }
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            started = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                position++;
+            }
+            append(start, position);
+            if (position < limit) {
+                skipLineFeed = buffer[position] == '\r';
+                position++;
+                return finishLine();
+            }
+        }
+    }
+
+    /**
+     * Whether the line last returned by {@link #readLine()} exceeded {@code maxLength}.
+     */
+    boolean wasTooLong() {
+        return tooLong;
+    }
+
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void append(int start, int end) {
+        if (tooLong) {
+            return;
+        }
+        if (line.length() + end - start > maxLength) {
+            tooLong = true;
+            line.setLength(0);
+            return;
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    private String finishLine() {
+        return tooLong ? "" : line.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.mlcdev.employeeapi.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+
+import java.io.IOException;
+
+/**
+ * Reads one JSON employee object per line.
+ */
+class NdjsonEmployeeReader implements EmployeeRecordReader {
+
+    private final LineReader reader;
+    private final ObjectReader employeeReader;
+    private long line;
+
+    NdjsonEmployeeReader(LineReader reader, ObjectMapper mapper) {
+        this.reader = reader;
+        this.employeeReader = mapper.readerFor(EmployeeDTO.class);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (reader.wasTooLong()) {
+                return ImportRecord.failed(line, "The line is longer than " + reader.getMaxLength() + " characters");
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                EmployeeDTO employee = employeeReader.readValue(text);
+                if (employee == null) {
+                    return ImportRecord.failed(line, "The line must contain a JSON object");
+                }
+                return ImportRecord.parsed(line, employee);
+            } catch (JsonProcessingException e) {
+                return ImportRecord.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,82 @@
+package com.mlcdev.employeeapi.job;
+
+import com.mlcdev.employeeapi.dto.JobDTO;
+import com.mlcdev.employeeapi.dto.RecordErrorDTO;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one background operation. Counters are updated by the worker thread and read by
+ * status requests, so they are atomics and the status is volatile.
+ */
+public class Job {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final long id;
+    private final String type;
+    private final long total;
+    private final Instant createdAt = Instant.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong affected = new AtomicLong();
+    private volatile Status status = Status.PENDING;
+    private volatile String error;
+    private volatile Instant finishedAt;
+    private volatile List<RecordErrorDTO> errors = List.of();
+
+    Job(long id, String type, long total) {
+        this.id = id;
+        this.type = type;
+        this.total = total;
+    }
+
+    public void advance(int processedRows, int affectedRows) {
+        processed.addAndGet(processedRows);
+        affected.addAndGet(affectedRows);
+    }
+
+    /**
+     * Attaches the records the job rejected, such as invalid lines of an import.
+     */
+    public void setErrors(List<RecordErrorDTO> errors) {
+        this.errors = List.copyOf(errors);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    public JobDTO toDTO() {
+        JobDTO dto = new JobDTO(id, type, status.name(), total >= 0 ? total : null, processed.get(), affected.get(),
+                error, createdAt, finishedAt);
+        dto.setErrors(errors);
+        return dto;
+    }
+}
@@ -0,0 +1,94 @@
+package com.mlcdev.employeeapi.job;
+
+import com.mlcdev.employeeapi.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs background operations and keeps their {@link Job} for status requests. Only the most
+ * recent {@code maxRetained} finished jobs are kept.
+ */
+public class JobRegistry implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobRegistry.class);
+    private static final long FULL_QUEUE_RETRY_AFTER_SECONDS = 30;
+
+    private final Executor executor;
+    private final int maxRetained;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, Job> jobs = new ConcurrentSkipListMap<>();
+
+    public JobRegistry(Executor executor, int maxRetained) {
+        this.executor = executor;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * Registers a job and queues {@code work}; {@code total} is -1 when unknown up front. When the
+     * executor rejects the work (its queue is full) the job is dropped and the client is asked
+     * to retry later.
+     */
+    public Job submit(String type, long total, Consumer<Job> work) {
+        Job job = new Job(sequence.incrementAndGet(), type, total);
+        jobs.put(job.getId(), job);
+        evictFinished();
+        try {
+            executor.execute(() -> run(job, work));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            LOGGER.warn("Rejected a {} job, the job queue is full.", type);
+            throw new ServiceUnavailableException("Too many background jobs are queued, try again later",
+                    FULL_QUEUE_RETRY_AFTER_SECONDS);
+        }
+        return job;
+    }
+
+    public Optional<Job> get(long id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run(Job job, Consumer<Job> work) {
+        job.start();
+        try {
+            work.accept(job);
+            job.complete();
+        } catch (RuntimeException e) {
+            LOGGER.error("Job {} failed.", job.getId(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void evictFinished() {
+        int finished = 0;
+        for (Map.Entry<Long, Job> entry : jobs.descendingMap().entrySet()) {
+            if (entry.getValue().isFinished() && ++finished > maxRetained) {
+                jobs.remove(entry.getKey());
+            }
+        }
+    }
+}
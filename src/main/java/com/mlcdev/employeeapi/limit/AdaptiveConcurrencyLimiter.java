@@ -0,0 +1,100 @@
+package com.mlcdev.employeeapi.limit;
+
+import com.mlcdev.employeeapi.exception.DBConnectionException;
+import com.mlcdev.employeeapi.exception.ServiceUnavailableException;
+
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD concurrency limit. A request is admitted only while fewer than {@code limit} requests are
+ * in flight; otherwise it is rejected at once instead of waiting for a database connection.
+ * Each finished request adjusts the limit: a slow or overloaded one (latency above the
+ * threshold, or a connection failure) multiplies it by {@code backoffRatio}, and a fast one
+ * that found the limit at least half used adds {@code 1/limit}, about one more slot per full
+ * round of requests.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final long retryAfterSeconds;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMillis,
+                                      double backoffRatio, long retryAfterSeconds) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("The limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot and returns the start time to pass to {@link #release}.
+     *
+     * @throws ServiceUnavailableException when the limit is reached
+     */
+    public long acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                throw new ServiceUnavailableException("The server is overloaded, try again later", retryAfterSeconds);
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return System.nanoTime();
+            }
+        }
+    }
+
+    public void release(long startNanos, boolean overloaded) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        long latency = System.nanoTime() - startNanos;
+        synchronized (this) {
+            double current = limit;
+            if (overloaded || latency > latencyThresholdNanos) {
+                limit = Math.max(minLimit, current * backoffRatio);
+            } else if (inFlightBefore * 2 >= current) {
+                limit = Math.min(maxLimit, current + 1.0 / current);
+            }
+        }
+    }
+
+    /**
+     * Whether a failure means the database is struggling (no connection within the pool
+     * timeout, or a query timeout) rather than a problem with the request itself.
+     */
+    public static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DBConnectionException || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,163 @@
+package com.mlcdev.employeeapi.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Access log pipeline. Request threads decide whether a request is logged (errors and slow
+ * requests always, successful ones sampled) and publish a small record into an
+ * {@link AccessLogRingBuffer}; they never format, lock or block. A single background thread drains
+ * the buffer, formats the records as JSON lines and hands each batch to the sink in one call,
+ * which by default is the {@code ACCESS} logger backed by a rolling file in {@code logback.xml}.
+ * When the buffer is full the record is dropped and counted.
+ */
+public class AccessLog implements AutoCloseable {
+
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger("ACCESS");
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLog.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AccessLogRingBuffer<Entry> buffer;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int batchSize;
+    private final Consumer<String> sink;
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private volatile boolean running = true;
+
+    public AccessLog(int bufferSize, int batchSize, double sampleRate, long slowThresholdMillis) {
+        this(bufferSize, batchSize, sampleRate, slowThresholdMillis, ACCESS_LOGGER::info);
+    }
+
+    public AccessLog(int bufferSize, int batchSize, double sampleRate, long slowThresholdMillis, Consumer<String> sink) {
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sink = sink;
+        this.writer = new Thread(this::writeLoop, "access-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Called on the request thread once the response status is known.
+     */
+    public void publish(String method, String uri, String route, int status, long durationNanos) {
+        String reason = reasonToLog(status, durationNanos);
+        if (reason == null) {
+            return;
+        }
+        if (!buffer.offer(new Entry(System.currentTimeMillis(), method, uri, route, status, durationNanos, reason))) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Stops the writer after it has flushed everything already published.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String reasonToLog(int status, long durationNanos) {
+        if (status >= 400) {
+            return "error";
+        }
+        if (durationNanos >= slowThresholdNanos) {
+            return "slow";
+        }
+        if (sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        StringBuilder lines = new StringBuilder(batchSize * 160);
+        while (true) {
+            boolean stopping = !running;
+            buffer.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                if (stopping) {
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            for (Entry entry : batch) {
+                if (!lines.isEmpty()) {
+                    lines.append('\n');
+                }
+                entry.appendJson(lines);
+            }
+            try {
+                sink.accept(lines.toString());
+                written.add(batch.size());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not write {} access log records.", batch.size(), e);
+            }
+            batch.clear();
+            lines.setLength(0);
+        }
+    }
+
+    private record Entry(long timestampMillis, String method, String uri, String route, int status,
+                         long durationNanos, String reason) {
+
+        void appendJson(StringBuilder out) {
+            out.append("{\"ts\":\"").append(Instant.ofEpochMilli(timestampMillis))
+                    .append("\",\"method\":\"").append(method)
+                    .append("\",\"route\":\"");
+            appendEscaped(out, route);
+            out.append("\",\"uri\":\"");
+            appendEscaped(out, uri);
+            out.append("\",\"status\":").append(status)
+                    .append(",\"durationMs\":").append(durationNanos / 1000 / 1000.0)
+                    .append(",\"reason\":\"").append(reason).append("\"}");
+        }
+
+        private static void appendEscaped(StringBuilder out, String value) {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    out.append('\\').append(c);
+                } else if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+    }
+}
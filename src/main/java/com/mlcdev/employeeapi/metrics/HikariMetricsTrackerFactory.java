@@ -0,0 +1,51 @@
+package com.mlcdev.employeeapi.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes HikariCP pool gauges (active, idle, total, pending) and connection acquire
+ * latency into the {@link MetricsRegistry}, labelled by pool name.
+ */
+public class HikariMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final MetricsRegistry registry;
+
+    public HikariMetricsTrackerFactory(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        String labels = MetricsRegistry.labels("pool", poolName);
+        registry.gauge("hikaricp_connections_active", "Connections currently in use.", labels, poolStats::getActiveConnections);
+        registry.gauge("hikaricp_connections_idle", "Idle connections in the pool.", labels, poolStats::getIdleConnections);
+        registry.gauge("hikaricp_connections", "Total connections in the pool.", labels, poolStats::getTotalConnections);
+        registry.gauge("hikaricp_connections_pending", "Threads waiting for a connection.", labels, poolStats::getPendingThreads);
+        registry.gauge("hikaricp_connections_max", "Maximum pool size.", labels, poolStats::getMaxConnections);
+        LatencyHistogram acquire = registry.histogram("hikaricp_connections_acquire_seconds", "Time spent waiting for a connection.", labels);
+        LatencyHistogram usage = registry.histogram("hikaricp_connections_usage_seconds", "Time a connection was held before being returned.", labels);
+        LongAdder timeouts = registry.counter("hikaricp_connections_timeout_total", "Connection acquisitions that timed out.", labels);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+}
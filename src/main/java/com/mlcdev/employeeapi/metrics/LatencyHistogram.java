@@ -0,0 +1,66 @@
+package com.mlcdev.employeeapi.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram in the Prometheus layout. Recording is a short scan over the
+ * bucket bounds plus two {@link LongAdder} increments, so it is cheap and contention free on the
+ * request path; percentiles are computed by the monitoring side with {@code histogram_quantile}.
+ */
+public class LatencyHistogram {
+
+    static final double[] BUCKET_BOUNDS_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30
+    };
+    private static final long[] BUCKET_BOUNDS_NANOS = new long[BUCKET_BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+            BUCKET_BOUNDS_NANOS[i] = (long) (BUCKET_BOUNDS_SECONDS[i] * 1_000_000_000L);
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int index = 0;
+        while (index < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Returns cumulative counts: element {@code i} is the number of observations {@code <=} bound
+     * {@code i}, and the last element (the +Inf bucket) is the total count.
+     */
+    public long[] cumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            counts[i] = running;
+        }
+        return counts;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double getSumSeconds() {
+        return sumNanos.sum() / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,154 @@
+package com.mlcdev.employeeapi.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process registry of counters, gauges and latency histograms, rendered in the
+ * Prometheus text exposition format by {@link #writePrometheus(Appendable)}.
+ * <p>
+ * Series are identified by family name plus a pre-rendered label string (see {@link #labels}).
+ * Each family is capped at {@value #MAX_SERIES_PER_FAMILY} series so unexpected label values
+ * (e.g. random 404 paths) cannot grow memory without bound.
+ */
+public class MetricsRegistry {
+
+    static final int MAX_SERIES_PER_FAMILY = 1000;
+    private static final String OVERFLOW_LABELS = "series=\"overflow\"";
+
+    private final Map<String, MetricFamily> families = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(String name, String help, String labels) {
+        return (LatencyHistogram) family(name, help, MetricType.HISTOGRAM).series(labels, LatencyHistogram::new);
+    }
+
+    public LongAdder counter(String name, String help, String labels) {
+        return (LongAdder) family(name, help, MetricType.COUNTER).series(labels, LongAdder::new);
+    }
+
+    public void counter(String name, String help, String labels, DoubleSupplier supplier) {
+        family(name, help, MetricType.COUNTER).series(labels, () -> supplier);
+    }
+
+    public void gauge(String name, String help, String labels, DoubleSupplier supplier) {
+        family(name, help, MetricType.GAUGE).series(labels, () -> supplier);
+    }
+
+    public void recordRequest(String method, String route, int status, long nanos) {
+        histogram("http_server_requests_seconds", "HTTP request latency by method, route and status.",
+                labels("method", method, "route", route, "status", Integer.toString(status))).record(nanos);
+    }
+
+    public static String labels(String... keyValues) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (!builder.isEmpty()) {
+                builder.append(',');
+            }
+            builder.append(keyValues[i]).append("=\"");
+            String value = keyValues[i + 1] == null ? "" : keyValues[i + 1];
+            for (int c = 0; c < value.length(); c++) {
+                char character = value.charAt(c);
+                switch (character) {
+                    case '\\' -> builder.append("\\\\");
+                    case '"' -> builder.append("\\\"");
+                    case '\n' -> builder.append("\\n");
+                    default -> builder.append(character);
+                }
+            }
+            builder.append('"');
+        }
+        return builder.toString();
+    }
+
+    public void writePrometheus(Appendable out) throws IOException {
+        for (MetricFamily family : new TreeMap<>(families).values()) {
+            family.write(out);
+        }
+    }
+
+    private MetricFamily family(String name, String help, MetricType type) {
+        MetricFamily family = families.computeIfAbsent(name, key -> new MetricFamily(name, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type);
+        }
+        return family;
+    }
+
+    private enum MetricType {
+        COUNTER, GAUGE, HISTOGRAM;
+
+        String prometheusName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final class MetricFamily {
+        private final String name;
+        private final String help;
+        private final MetricType type;
+        private final Map<String, Object> series = new ConcurrentHashMap<>();
+
+        private MetricFamily(String name, String help, MetricType type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        private Object series(String labels, Supplier<Object> factory) {
+            Object existing = series.get(labels);
+            if (existing != null) {
+                return existing;
+            }
+            String key = series.size() >= MAX_SERIES_PER_FAMILY ? OVERFLOW_LABELS : labels;
+            return series.computeIfAbsent(key, ignored -> factory.get());
+        }
+
+        private void write(Appendable out) throws IOException {
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type.prometheusName()).append('\n');
+            for (Map.Entry<String, Object> entry : new TreeMap<>(series).entrySet()) {
+                String labels = entry.getKey();
+                Object sample = entry.getValue();
+                if (sample instanceof LatencyHistogram histogram) {
+                    writeHistogram(out, labels, histogram);
+                } else if (sample instanceof LongAdder adder) {
+                    writeSample(out, name, labels, adder.sum());
+                } else if (sample instanceof DoubleSupplier supplier) {
+                    writeSample(out, name, labels, supplier.getAsDouble());
+                }
+            }
+        }
+
+        private void writeHistogram(Appendable out, String labels, LatencyHistogram histogram) throws IOException {
+            long[] counts = histogram.cumulativeCounts();
+            String prefix = labels.isEmpty() ? "" : labels + ",";
+            for (int i = 0; i < LatencyHistogram.BUCKET_BOUNDS_SECONDS.length; i++) {
+                writeSample(out, name + "_bucket", prefix + "le=\"" + LatencyHistogram.BUCKET_BOUNDS_SECONDS[i] + "\"", counts[i]);
+            }
+            long count = counts[counts.length - 1];
+            writeSample(out, name + "_bucket", prefix + "le=\"+Inf\"", count);
+            writeSample(out, name + "_sum", labels, histogram.getSumSeconds());
+            writeSample(out, name + "_count", labels, count);
+        }
+
+        private static void writeSample(Appendable out, String name, String labels, double value) throws IOException {
+            out.append(name);
+            if (!labels.isEmpty()) {
+                out.append('{').append(labels).append('}');
+            }
+            out.append(' ');
+            if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+                out.append(Long.toString((long) value));
+            } else {
+                out.append(Double.toString(value));
+            }
+            out.append('\n');
+        }
+    }
+}
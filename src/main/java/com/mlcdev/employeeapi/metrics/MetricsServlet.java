@@ -0,0 +1,33 @@
+package com.mlcdev.employeeapi.metrics;
+
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+@WebServlet("/metrics")
+public class MetricsServlet extends HttpServlet {
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4";
+    private MetricsRegistry registry;
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        registry = (MetricsRegistry) config.getServletContext().getAttribute("MetricsRegistry");
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType(PROMETHEUS_CONTENT_TYPE);
+        resp.setCharacterEncoding("UTF-8");
+        PrintWriter writer = resp.getWriter();
+        registry.writePrometheus(writer);
+        writer.flush();
+    }
+}
@@ -0,0 +1,63 @@
+package com.mlcdev.employeeapi.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Employee properties that can be requested individually (sparse fieldsets), with the JSON
+ * name exposed by the API and the column they are read from.
+ */
+public enum EmployeeField {
+    ID("id", "id"),
+    NAME("name", "name"),
+    SALARY("salary", "salary"),
+    HIRING_DATE("hiringDate", "hiring_date"),
+    ROLE("role", "role");
+
+    public static final Set<EmployeeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EmployeeField.class));
+
+    private final String jsonName;
+    private final String column;
+
+    EmployeeField(String jsonName, String column) {
+        this.jsonName = jsonName;
+        this.column = column;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public static EmployeeField fromJsonName(String jsonName) {
+        for (EmployeeField field : values()) {
+            if (field.jsonName.equals(jsonName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isAll(Set<EmployeeField> fields) {
+        return fields == null || fields.size() == values().length;
+    }
+
+    /**
+     * Comma separated column list in declaration order, so equal field sets always
+     * produce the same SQL text (and reuse the same cached prepared statement).
+     */
+    public static String columns(Set<EmployeeField> fields) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (EmployeeField field : values()) {
+            if (fields.contains(field)) {
+                joiner.add(field.column);
+            }
+        }
+        return joiner.toString();
+    }
+}
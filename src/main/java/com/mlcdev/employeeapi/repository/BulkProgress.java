@@ -0,0 +1,10 @@
+package com.mlcdev.employeeapi.repository;
+
+/**
+ * Called after each committed chunk of a bulk operation.
+ */
+@FunctionalInterface
+public interface BulkProgress {
+
+    void onChunk(int processed, int affected);
+}
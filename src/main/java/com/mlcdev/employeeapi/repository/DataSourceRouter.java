@@ -0,0 +1,174 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sends writes to the primary pool and spreads reads over the replica pools. A replica that
+ * can't be reached is skipped for {@code retryMillis} and the read is retried on the primary, so
+ * a broken replica costs one failed attempt instead of failing requests. Errors that aren't about
+ * the connection (a bad query, a constraint) are thrown as they are. Without replicas every read
+ * goes to the primary.
+ */
+public class DataSourceRouter implements AutoCloseable {
+
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_PENDING;
+
+        public static Strategy fromProperty(String value) {
+            if (value == null || value.isBlank()) {
+                return ROUND_ROBIN;
+            }
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * Work done with a borrowed connection; the router closes the connection afterwards.
+     */
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceRouter.class);
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final Strategy strategy;
+    private final long retryMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLongArray failedUntil;
+
+    public DataSourceRouter(HikariDataSource primary) {
+        this(primary, List.of(), Strategy.ROUND_ROBIN, 0);
+    }
+
+    public DataSourceRouter(HikariDataSource primary, List<HikariDataSource> replicas, Strategy strategy, long retryMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.retryMillis = retryMillis;
+        this.failedUntil = new AtomicLongArray(this.replicas.size());
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Runs a bounded read on a replica, falling back to the primary when no replica is
+     * available or the replica's connection fails. The callback may therefore run twice and
+     * must not have side effects outside its result.
+     */
+    public <T> T read(ConnectionCallback<T> callback) throws SQLException {
+        int replica = pickReplica();
+        Connection replicaConnection = replica >= 0 ? connect(replica) : null;
+        if (replicaConnection != null) {
+            try (Connection con = replicaConnection) {
+                return callback.apply(con);
+            } catch (SQLException e) {
+                if (!isConnectionFailure(e)) {
+                    throw e;
+                }
+                markFailed(replica, e);
+            }
+        }
+        try (Connection con = primary.getConnection()) {
+            return callback.apply(con);
+        }
+    }
+
+    /**
+     * Borrows a read connection for work that can't be repeated, such as streaming rows to the
+     * client. Only a failure to connect falls back to the primary.
+     */
+    public Connection readConnection() throws SQLException {
+        int replica = pickReplica();
+        Connection replicaConnection = replica >= 0 ? connect(replica) : null;
+        return replicaConnection != null ? replicaConnection : primary.getConnection();
+    }
+
+    /**
+     * Whether {@code e} means the connection itself broke (SQLState class 08), as opposed to an
+     * error in the statement that the primary would raise too.
+     */
+    static boolean isConnectionFailure(SQLException e) {
+        if (e instanceof SQLTransientConnectionException || e instanceof SQLNonTransientConnectionException) {
+            return true;
+        }
+        return e.getSQLState() != null && e.getSQLState().startsWith("08");
+    }
+
+    @Override
+    public void close() {
+        for (HikariDataSource replica : replicas) {
+            if (!replica.isClosed()) {
+                replica.close();
+            }
+        }
+    }
+
+    private int pickReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return -1;
+        }
+        long now = System.currentTimeMillis();
+        if (strategy == Strategy.LEAST_PENDING) {
+            int best = -1;
+            int bestLoad = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                int load = load(replicas.get(i));
+                if (failedUntil.get(i) <= now && load < bestLoad) {
+                    best = i;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int candidate = (start + i) % size;
+            if (failedUntil.get(candidate) <= now) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private Connection connect(int replica) {
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            markFailed(replica, e);
+            return null;
+        }
+    }
+
+    private static int load(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    private void markFailed(int replica, SQLException e) {
+        failedUntil.set(replica, System.currentTimeMillis() + retryMillis);
+        LOGGER.warn("Read replica {} failed, using the primary for {} ms: {}", replicas.get(replica).getPoolName(),
+                retryMillis, e.getMessage());
+    }
+}
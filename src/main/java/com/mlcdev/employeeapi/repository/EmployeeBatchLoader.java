@@ -0,0 +1,173 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.model.Employee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Micro-batches point lookups. Callers of {@link #load} enqueue their ID and wait; a dispatcher
+ * thread takes the first waiting ID, keeps collecting until {@code maxBatchSize} IDs are queued
+ * or {@code maxWaitMicros} have passed, and runs the batch as one {@link EmployeeDAO#findByIds}
+ * query on the executor. Each caller then gets its own result, or the batch's exception.
+ * <p>
+ * Under light load a lookup waits up to {@code maxWaitMicros} longer than a direct query; under
+ * heavy load many lookups share one connection checkout and one round trip.
+ */
+public class EmployeeBatchLoader implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeBatchLoader.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final EmployeeDAO dao;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final ExecutorService executor;
+    private final LinkedBlockingQueue<PendingLoad> queue = new LinkedBlockingQueue<>();
+    private final Thread dispatcher;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+    private volatile boolean running = true;
+
+    public EmployeeBatchLoader(EmployeeDAO dao, int maxBatchSize, long maxWaitMicros, ExecutorService executor) {
+        this.dao = dao;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.executor = executor;
+        this.dispatcher = new Thread(this::dispatchLoop, "employee-batch-loader");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public Optional<Employee> load(long id) {
+        if (!running) {
+            return dao.findById(id);
+        }
+        PendingLoad pending = new PendingLoad(id, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            return dao.findById(id);
+        }
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getKeyCount() {
+        return keys.sum();
+    }
+
+    /**
+     * Average share of {@code maxBatchSize} used by the batches run so far.
+     */
+    public double getFillRatio() {
+        long batchCount = batches.sum();
+        return batchCount == 0 ? 0 : (double) keys.sum() / (batchCount * maxBatchSize);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingLoad> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            run(leftover);
+        }
+        executor.shutdown();
+    }
+
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingLoad first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    submit(collect(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingLoad> collect(PendingLoad first) throws InterruptedException {
+        List<PendingLoad> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                break;
+            }
+            PendingLoad next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void submit(List<PendingLoad> batch) {
+        try {
+            executor.execute(() -> run(batch));
+        } catch (RejectedExecutionException e) {
+            run(batch);
+        }
+    }
+
+    private void run(List<PendingLoad> batch) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (PendingLoad pending : batch) {
+            ids.add(pending.id);
+        }
+        batches.increment();
+        keys.add(ids.size());
+        try {
+            Map<Long, Employee> found = new HashMap<>();
+            for (Employee employee : dao.findByIds(ids)) {
+                found.put(employee.getId(), employee);
+            }
+            for (PendingLoad pending : batch) {
+                pending.result.complete(Optional.ofNullable(found.get(pending.id)));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Batched lookup of {} IDs failed: {}", ids.size(), e.getMessage());
+            for (PendingLoad pending : batch) {
+                pending.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private record PendingLoad(long id, CompletableFuture<Optional<Employee>> result) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.model.Employee;
+
+/**
+ * A row before and after a single-row write, both read inside the write's transaction.
+ * {@code current} is null after a delete.
+ */
+public record EmployeeChange(Employee previous, Employee current) {
+}
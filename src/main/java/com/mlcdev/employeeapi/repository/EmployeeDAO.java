@@ -1,60 +1,321 @@
 package com.mlcdev.employeeapi.repository;
 
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
 import com.mlcdev.employeeapi.exception.DatabaseException;
 import com.mlcdev.employeeapi.model.Employee;
-import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.model.EmployeeField;
 import com.zaxxer.hikari.HikariDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class EmployeeDAO {
 
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int MAX_QUERY_SHAPES = 128;
+    private static final int KEYSET_SHAPE = 1 << 10;
+    private static final int COUNT_SHAPE = 1 << 11;
+    private static final int RAISE_SHAPE = 1 << 12;
+    private static final int IN_SHAPE = 1 << 13;
+    private static final int MAX_IN_LIST = 1024;
+    private static final String FIND_BY_ID_QUERY = "SELECT " + EmployeeField.columns(EmployeeField.ALL) + " FROM employee WHERE id = ?;";
+    private static final String LOCK_BY_ID_QUERY = "SELECT " + EmployeeField.columns(EmployeeField.ALL) + " FROM employee WHERE id = ? FOR UPDATE;";
+    private static final QueryShapeCache QUERY_SHAPES = new QueryShapeCache(MAX_QUERY_SHAPES);
+    private final DataSourceRouter router;
     private final HikariDataSource dataSource;
+    private final int batchSize;
+    private final int fetchSize;
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeDAO.class);
 
     public EmployeeDAO(HikariDataSource dataSource) {
-        this.dataSource = dataSource;
+        this(dataSource, DEFAULT_BATCH_SIZE, DEFAULT_FETCH_SIZE);
+    }
+
+    public EmployeeDAO(HikariDataSource dataSource, int batchSize) {
+        this(dataSource, batchSize, DEFAULT_FETCH_SIZE);
+    }
+
+    public EmployeeDAO(HikariDataSource dataSource, int batchSize, int fetchSize) {
+        this(new DataSourceRouter(dataSource), batchSize, fetchSize);
+    }
+
+    /**
+     * Writes, and reads that must see the latest write, use the router's primary; the other
+     * reads may be served by a replica.
+     */
+    public EmployeeDAO(DataSourceRouter router, int batchSize, int fetchSize) {
+        this.router = router;
+        this.dataSource = router.getPrimary();
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
     }
 
     public Optional<Employee> findById(Long id) {
+        return findById(id, EmployeeField.ALL);
+    }
+
+    public Optional<Employee> findById(Long id, Set<EmployeeField> fields) {
+        String query = "SELECT " + selectColumns(fields) + " FROM employee WHERE id = ?;";
+        try {
+            return router.read(con -> findById(con, query, id));
+        } catch (Exception e) {
+            throw new DatabaseException("Error Selecting the employee", e);
+        }
+    }
+
+    /**
+     * Reads the employee from the primary, for callers that can't risk a lagging replica, such as
+     * loads whose result is cached.
+     */
+    public Optional<Employee> findByIdOnPrimary(Long id) {
+        try (Connection con = dataSource.getConnection()) {
+            return findById(con, FIND_BY_ID_QUERY, id);
+        } catch (Exception e) {
+            throw new DatabaseException("Error Selecting the employee", e);
+        }
+    }
+
+    private Optional<Employee> findById(Connection con, String query, Long id) throws SQLException {
         Employee employee = null;
-        String query = "SELECT * FROM employee WHERE id = ?;";
-        try (Connection con = dataSource.getConnection(); PreparedStatement preparedStatement = con.prepareStatement(query)) {
+        try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
             preparedStatement.setLong(1, id);
             try (ResultSet rs = preparedStatement.executeQuery()) {
                 if (rs.next()) {
-                    employee = setDatabaseAttributesToEmployee(rs);
+                    employee = EmployeeRowMapper.of(rs).toEmployee(rs);
                     LOGGER.debug("SELECT executed with ID: {}.",employee.getId());
                 }
             }
-        } catch (Exception e) {
-            throw new DatabaseException("Error Selecting the employee", e);
         }
         return Optional.ofNullable(employee);
     }
 
-    public List<Employee> findAll(int limit, int offset) {
-        List<Employee> employeeList = new ArrayList<>();
-        String query = "SELECT * FROM employee LIMIT ? OFFSET ?;";
-        try (Connection con = dataSource.getConnection(); PreparedStatement preparedStatement = con.prepareStatement(query)) {
-            preparedStatement.setInt(1, limit);
-            preparedStatement.setInt(2, offset);
+    /**
+     * Loads the given IDs with one {@code WHERE id IN (...)} query, in no particular order;
+     * IDs without a row are simply absent. The list is padded to the next power of two by
+     * repeating the last ID, so only a handful of distinct statements reach the server.
+     */
+    public List<Employee> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_IN_LIST) {
+            throw new IllegalArgumentException("At most " + MAX_IN_LIST + " IDs can be loaded at once");
+        }
+        try {
+            return router.read(con -> {
+                List<Employee> employeeList = new ArrayList<>(ids.size());
+                selectIn(con, ids, employeeList);
+                return employeeList;
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Error Selecting the employees", e);
+        }
+    }
+
+    /**
+     * Like {@link #findByIds}, for lists of any length: the IDs are split into {@code IN} chunks
+     * of at most {@code batchSize}, all run on the same connection.
+     */
+    public List<Employee> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return router.read(con -> selectAllIn(con, ids));
+        } catch (SQLException e) {
+            throw new DatabaseException("Error Selecting the employees", e);
+        }
+    }
 
+    /**
+     * Same as {@link #findAllByIds} but on the primary, for rows that are about to be cached
+     * and must not come from a lagging replica.
+     */
+    public List<Employee> findAllByIdsOnPrimary(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try (Connection con = dataSource.getConnection()) {
+            return selectAllIn(con, ids);
+        } catch (SQLException e) {
+            throw new DatabaseException("Error Selecting the employees", e);
+        }
+    }
+
+    private List<Employee> selectAllIn(Connection con, List<Long> ids) throws SQLException {
+        int chunkSize = Math.min(batchSize, MAX_IN_LIST);
+        List<Employee> employeeList = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            selectIn(con, ids.subList(start, Math.min(start + chunkSize, ids.size())), employeeList);
+        }
+        return employeeList;
+    }
+
+    private void selectIn(Connection con, Collection<Long> ids, List<Employee> employeeList) throws SQLException {
+        int slots = ids.size() == 1 ? 1 : Integer.highestOneBit(ids.size() - 1) << 1;
+        String query = QUERY_SHAPES.get(IN_SHAPE | slots, s -> {
+            StringBuilder builder = new StringBuilder("SELECT ").append(selectColumns(EmployeeField.ALL))
+                    .append(" FROM employee WHERE id IN (?");
+            builder.append(",?".repeat((s & ~IN_SHAPE) - 1));
+            return builder.append(");").toString();
+        });
+        try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
+            int index = 1;
+            long last = 0;
+            for (Long id : ids) {
+                preparedStatement.setLong(index++, id);
+                last = id;
+            }
+            while (index <= slots) {
+                preparedStatement.setLong(index++, last);
+            }
             try (ResultSet rs = preparedStatement.executeQuery()) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.of(rs);
                 while (rs.next()) {
-                    employeeList.add(setDatabaseAttributesToEmployee(rs));
+                    employeeList.add(mapper.toEmployee(rs));
                 }
-                LOGGER.debug("SELECT all executed.");
             }
+        }
+        LOGGER.debug("SELECT IN executed for {} IDs.", ids.size());
+    }
+
+    public List<Employee> findAll(int limit, int offset) {
+        return findAll(limit, offset, EmployeeField.ALL);
+    }
+
+    public List<Employee> findAll(int limit, int offset, Set<EmployeeField> fields) {
+        return findAll(limit, offset, fields, EmployeeFilter.NONE);
+    }
+
+    public List<Employee> findAll(int limit, int offset, Set<EmployeeField> fields, EmployeeFilter filter) {
+        String query = listQuery(false, fields, filter);
+        try {
+            return router.read(con -> {
+                List<Employee> employeeList = new ArrayList<>();
+                try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
+                    int index = setFilterStatements(preparedStatement, filter, 1);
+                    preparedStatement.setInt(index++, limit);
+                    preparedStatement.setInt(index, offset);
+
+                    try (ResultSet rs = preparedStatement.executeQuery()) {
+                        EmployeeRowMapper mapper = EmployeeRowMapper.of(rs);
+                        while (rs.next()) {
+                            employeeList.add(mapper.toEmployee(rs));
+                        }
+                        LOGGER.debug("SELECT all executed.");
+                    }
+                }
+                return employeeList;
+            });
         } catch (Exception e) {
             throw new DatabaseException("Error on Getting the employee list", e);
         }
-        return employeeList;
+    }
+
+    public List<Employee> findAllAfter(long afterId, int limit) {
+        return findAllAfter(afterId, limit, EmployeeField.ALL);
+    }
+
+    public List<Employee> findAllAfter(long afterId, int limit, Set<EmployeeField> fields) {
+        return findAllAfter(afterId, limit, fields, EmployeeFilter.NONE);
+    }
+
+    public List<Employee> findAllAfter(long afterId, int limit, Set<EmployeeField> fields, EmployeeFilter filter) {
+        String query = listQuery(true, fields, filter);
+        try {
+            return router.read(con -> {
+                List<Employee> employeeList = new ArrayList<>();
+                try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
+                    int index = setFilterStatements(preparedStatement, filter, 1);
+                    preparedStatement.setLong(index++, afterId);
+                    preparedStatement.setInt(index, limit);
+
+                    try (ResultSet rs = preparedStatement.executeQuery()) {
+                        EmployeeRowMapper mapper = EmployeeRowMapper.of(rs);
+                        while (rs.next()) {
+                            employeeList.add(mapper.toEmployee(rs));
+                        }
+                        LOGGER.debug("SELECT after ID: {} executed.", afterId);
+                    }
+                }
+                return employeeList;
+            });
+        } catch (Exception e) {
+            throw new DatabaseException("Error on Getting the employee list", e);
+        }
+    }
+
+    public long count(EmployeeFilter filter) {
+        String query = QUERY_SHAPES.get(COUNT_SHAPE | filter.mask(), s -> {
+            StringBuilder builder = new StringBuilder("SELECT COUNT(*) FROM employee");
+            appendPredicates(builder, s, null);
+            return builder.append(';').toString();
+        });
+        try {
+            return router.read(con -> {
+                try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
+                    setFilterStatements(preparedStatement, filter, 1);
+                    try (ResultSet rs = preparedStatement.executeQuery()) {
+                        rs.next();
+                        long count = rs.getLong(1);
+                        LOGGER.debug("COUNT executed: {} rows.", count);
+                        return count;
+                    }
+                }
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on counting the employees", e);
+        }
+    }
+
+    /**
+     * Streams every employee in primary key order through a forward-only, read-only cursor.
+     * Rows are fetched from the server {@code fetchSize} at a time (MySQL needs
+     * {@code useCursorFetch=true} on the URL), so memory use does not depend on the table size.
+     */
+    public void streamAll(RowHandler<Employee> handler) throws IOException {
+        streamAll(EmployeeField.ALL, handler);
+    }
+
+    public void streamAll(Set<EmployeeField> fields, RowHandler<Employee> handler) throws IOException {
+        stream(fields, EmployeeRowMapper::toEmployee, handler);
+    }
+
+    /**
+     * Same as {@link #streamAll(RowHandler)}, mapping each row straight to the DTO.
+     */
+    public void streamAllAsDTOs(RowHandler<EmployeeDTO> handler) throws IOException {
+        stream(EmployeeField.ALL, EmployeeRowMapper::toDTO, handler);
+    }
+
+    private <T> void stream(Set<EmployeeField> fields, RowMapping<T> mapping, RowHandler<T> handler) throws IOException {
+        String query = "SELECT " + selectColumns(fields) + " FROM employee ORDER BY id;";
+        long rows = 0;
+        try (Connection con = router.readConnection();
+             PreparedStatement preparedStatement = con.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            preparedStatement.setFetchSize(fetchSize);
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.of(rs);
+                while (rs.next()) {
+                    handler.handle(mapping.map(mapper, rs));
+                    rows++;
+                }
+            }
+            LOGGER.debug("SELECT stream executed with {} rows.", rows);
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on streaming the employee list", e);
+        }
     }
 
     public Employee save(Employee employee) {
@@ -74,15 +335,44 @@ public class EmployeeDAO {
         return employee;
     }
 
+    /**
+     * Inserts all employees inside a single transaction, sending them to the database in chunks
+     * of {@code batchSize} statements. Either every row is persisted or none is.
+     */
+    public List<Employee> saveAll(List<Employee> employees) {
+        String query = "INSERT INTO employee (name,salary,role,hiring_date) VALUES (?,?,?,?);";
+        try (Connection con = dataSource.getConnection()) {
+            boolean previousAutoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = con.prepareStatement(query, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < employees.size(); start += batchSize) {
+                    List<Employee> chunk = employees.subList(start, Math.min(start + batchSize, employees.size()));
+                    for (Employee employee : chunk) {
+                        setEmployeeStatements(preparedStatement, employee);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                    setGeneratedKeys(preparedStatement, chunk);
+                }
+                con.commit();
+                LOGGER.debug("Batch INSERT successfully saved {} employees.", employees.size());
+            } catch (SQLException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(previousAutoCommit);
+            }
+        } catch (Exception e) {
+            throw new DatabaseException("Error on the batch insertion", e);
+        }
+        return employees;
+    }
+
     public Optional<Employee> update(Employee employee) {
-        String query = "UPDATE employee SET name = ?, salary = ?, role = ?, hiring_date = ? WHERE id = ?;";
-        try (Connection con = dataSource.getConnection(); PreparedStatement preparedStatement = con.prepareStatement(query)) {
-            setEmployeeStatements(preparedStatement, employee);
-            preparedStatement.setLong(5, employee.getId());
-            int rowsAffected = preparedStatement.executeUpdate();
-            if (rowsAffected > 0) {
+        try (Connection con = dataSource.getConnection()) {
+            if (executeUpdate(con, employee)) {
                 LOGGER.debug("UPDATE successfully executed.");
-                return findById(con, employee.getId());
+                return findById(con, FIND_BY_ID_QUERY, employee.getId());
             } else {
                 return Optional.empty();
             }
@@ -91,12 +381,184 @@ public class EmployeeDAO {
         }
     }
 
+    /**
+     * Same as {@link #update} but also returns the row as it was before, locked and read in the
+     * same transaction as the UPDATE. The row after it is {@code employee} itself, since every
+     * column is overwritten, so it isn't read back. Empty when the employee does not exist.
+     */
+    public Optional<EmployeeChange> updateWithPrevious(Employee employee) {
+        try {
+            return writeLocked(employee.getId(), (con, previous) -> {
+                executeUpdate(con, employee);
+                LOGGER.debug("UPDATE successfully executed.");
+                return employee;
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on updating the employee", e);
+        }
+    }
+
+    /**
+     * Updates only the non-null fields of {@code changes}. Returns whether the row exists.
+     */
+    public boolean patch(Long id, Employee changes) {
+        try (Connection con = dataSource.getConnection()) {
+            boolean updated = executePatch(con, id, changes);
+            if (updated) {
+                LOGGER.debug("PATCH successfully executed.");
+            }
+            return updated;
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on updating the employee", e);
+        }
+    }
+
+    /**
+     * Same as {@link #patch} but also returns the row as it was before, locked and read in the
+     * same transaction as the UPDATE, and the row after it, merged from the two without another
+     * read. Empty when the employee does not exist.
+     */
+    public Optional<EmployeeChange> patchWithPrevious(Long id, Employee changes) {
+        try {
+            return writeLocked(id, (con, previous) -> {
+                executePatch(con, id, changes);
+                LOGGER.debug("PATCH successfully executed.");
+                return new Employee(id,
+                        changes.getName() != null ? changes.getName() : previous.getName(),
+                        changes.getSalary() != null ? changes.getSalary() : previous.getSalary(),
+                        changes.getHiringDate() != null ? changes.getHiringDate() : previous.getHiringDate(),
+                        changes.getRole() != null ? changes.getRole() : previous.getRole());
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on updating the employee", e);
+        }
+    }
+
+    /**
+     * Same as {@link #patch} but reads the merged row back on the same connection.
+     */
+    public Optional<Employee> patchAndGet(Long id, Employee changes) {
+        try (Connection con = dataSource.getConnection()) {
+            if (!executePatch(con, id, changes)) {
+                return Optional.empty();
+            }
+            LOGGER.debug("PATCH successfully executed.");
+            return findById(con, FIND_BY_ID_QUERY, id);
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on updating the employee", e);
+        }
+    }
+
+    /**
+     * Multiplies the salary of every employee matching {@code filter} by {@code factor}. Matching
+     * IDs are read {@code batchSize} at a time in primary key order, and each chunk is updated with
+     * one range-bounded UPDATE and committed on its own, so row locks are held for one chunk only.
+     * Returns the number of rows changed.
+     */
+    public long raiseSalaries(EmployeeFilter filter, BigDecimal factor, BulkProgress progress) {
+        String selectQuery = listQuery(true, EnumSet.of(EmployeeField.ID), filter);
+        String updateQuery = QUERY_SHAPES.get(RAISE_SHAPE | filter.mask(), s -> {
+            StringBuilder builder = new StringBuilder("UPDATE employee SET salary = ROUND(salary * ?, 2)");
+            appendPredicates(builder, s, "id BETWEEN ? AND ?");
+            return builder.append(';').toString();
+        });
+        long affected = 0;
+        try (Connection con = dataSource.getConnection()) {
+            boolean previousAutoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try (PreparedStatement select = con.prepareStatement(selectQuery);
+                 PreparedStatement update = con.prepareStatement(updateQuery)) {
+                long lastId = 0;
+                while (true) {
+                    int index = setFilterStatements(select, filter, 1);
+                    select.setLong(index++, lastId);
+                    select.setInt(index, batchSize);
+                    List<Long> ids = new ArrayList<>(batchSize);
+                    try (ResultSet rs = select.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getLong(1));
+                        }
+                    }
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+                    update.setBigDecimal(1, factor);
+                    index = setFilterStatements(update, filter, 2);
+                    update.setLong(index++, ids.getFirst());
+                    update.setLong(index, ids.getLast());
+                    int rows = update.executeUpdate();
+                    con.commit();
+                    affected += rows;
+                    lastId = ids.getLast();
+                    progress.onChunk(ids.size(), rows);
+                    if (ids.size() < batchSize) {
+                        break;
+                    }
+                }
+                LOGGER.debug("Bulk raise updated {} employees.", affected);
+            } catch (SQLException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(previousAutoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on the bulk salary update after " + affected + " rows", e);
+        }
+        return affected;
+    }
+
+    /**
+     * Deletes the given IDs in ascending order, {@code batchSize} per {@code DELETE ... IN (...)},
+     * committing after each chunk. Unknown IDs are ignored. Returns the number of rows deleted.
+     */
+    public long deleteByIds(List<Long> ids, BulkProgress progress) {
+        return deleteByIds(ids, progress, committed -> {
+        });
+    }
+
+    /**
+     * Same as {@link #deleteByIds(List, BulkProgress)}, also handing each committed chunk's IDs to
+     * {@code onCommitted}: none of them exists any more, while the IDs of a chunk that failed are
+     * never reported.
+     */
+    public long deleteByIds(List<Long> ids, BulkProgress progress, Consumer<List<Long>> onCommitted) {
+        List<Long> sortedIds = ids.stream().distinct().sorted().toList();
+        long affected = 0;
+        try (Connection con = dataSource.getConnection()) {
+            boolean previousAutoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try {
+                for (int start = 0; start < sortedIds.size(); start += batchSize) {
+                    List<Long> chunk = sortedIds.subList(start, Math.min(start + batchSize, sortedIds.size()));
+                    String query = "DELETE FROM employee WHERE id IN (" + "?,".repeat(chunk.size() - 1) + "?);";
+                    try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            preparedStatement.setLong(i + 1, chunk.get(i));
+                        }
+                        int rows = preparedStatement.executeUpdate();
+                        con.commit();
+                        affected += rows;
+                        onCommitted.accept(chunk);
+                        progress.onChunk(chunk.size(), rows);
+                    }
+                }
+                LOGGER.debug("Bulk DELETE removed {} employees.", affected);
+            } catch (SQLException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(previousAutoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on the bulk delete after " + affected + " rows", e);
+        }
+        return affected;
+    }
+
     public boolean delete(Long id) {
-        String query = "DELETE FROM employee WHERE id = ?";
-        try (Connection con = dataSource.getConnection(); PreparedStatement preparedStatement = con.prepareStatement(query)) {
-            preparedStatement.setLong(1, id);
-            int rowsAffected = preparedStatement.executeUpdate();
-            if (rowsAffected == 0) {
+        try (Connection con = dataSource.getConnection()) {
+            if (!executeDelete(con, id)) {
                 return false;
             }
         } catch (SQLException e) {
@@ -106,6 +568,63 @@ public class EmployeeDAO {
         return true;
     }
 
+    /**
+     * Same as {@link #delete} but returns the deleted row, locked and read in the same transaction
+     * as the DELETE. Empty when the employee does not exist.
+     */
+    public Optional<Employee> deleteWithPrevious(Long id) {
+        try {
+            Optional<EmployeeChange> change = writeLocked(id, (con, previous) -> {
+                executeDelete(con, id);
+                LOGGER.debug("DELETE successfully executed.");
+                return null;
+            });
+            return change.map(EmployeeChange::previous);
+        } catch (SQLException e) {
+            throw new DatabaseException("Error on deleting the employee", e);
+        }
+    }
+
+    /**
+     * Runs {@code write} in one transaction after locking the row with {@code SELECT ... FOR UPDATE},
+     * so no other writer can change it between the read and the write. Nothing is written when the
+     * row does not exist.
+     */
+    private Optional<EmployeeChange> writeLocked(Long id, LockedWrite write) throws SQLException {
+        try (Connection con = dataSource.getConnection()) {
+            boolean previousAutoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try {
+                Optional<Employee> previous = findById(con, LOCK_BY_ID_QUERY, id);
+                Optional<EmployeeChange> change = previous.isEmpty() ? Optional.empty()
+                        : Optional.of(new EmployeeChange(previous.get(), write.apply(con, previous.get())));
+                con.commit();
+                return change;
+            } catch (SQLException | RuntimeException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(previousAutoCommit);
+            }
+        }
+    }
+
+    private boolean executeUpdate(Connection con, Employee employee) throws SQLException {
+        String query = "UPDATE employee SET name = ?, salary = ?, role = ?, hiring_date = ? WHERE id = ?;";
+        try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
+            setEmployeeStatements(preparedStatement, employee);
+            preparedStatement.setLong(5, employee.getId());
+            return preparedStatement.executeUpdate() > 0;
+        }
+    }
+
+    private boolean executeDelete(Connection con, Long id) throws SQLException {
+        try (PreparedStatement preparedStatement = con.prepareStatement("DELETE FROM employee WHERE id = ?")) {
+            preparedStatement.setLong(1, id);
+            return preparedStatement.executeUpdate() > 0;
+        }
+    }
+
 
     private void setEmployeeStatements(PreparedStatement preparedStatement, Employee employee) throws SQLException {
         preparedStatement.setString(1, employee.getName());
@@ -114,30 +633,136 @@ public class EmployeeDAO {
         preparedStatement.setDate(4, Date.valueOf(employee.getHiringDate()));
     }
 
-    private Employee setDatabaseAttributesToEmployee(ResultSet resultSet) throws SQLException {
-        Employee employee = new Employee();
-        employee.setId(resultSet.getLong("id"));
-        employee.setName(resultSet.getString("name"));
-        employee.setSalary(resultSet.getBigDecimal("salary"));
-        employee.setRole(Role.valueOf(resultSet.getString("role")));
-        java.sql.Date dbDate = resultSet.getDate("hiring_date");
-        employee.setHiringDate(dbDate.toLocalDate());
-        return employee;
+    private boolean executePatch(Connection con, Long id, Employee changes) throws SQLException {
+        StringBuilder query = new StringBuilder("UPDATE employee SET ");
+        List<Object> values = new ArrayList<>(5);
+        appendAssignment(query, values, "name", changes.getName());
+        appendAssignment(query, values, "salary", changes.getSalary());
+        appendAssignment(query, values, "role", changes.getRole() == null ? null : changes.getRole().name());
+        appendAssignment(query, values, "hiring_date", changes.getHiringDate() == null ? null : Date.valueOf(changes.getHiringDate()));
+        if (values.isEmpty()) {
+            throw new SQLException("There are no columns to update");
+        }
+        query.append(" WHERE id = ?;");
+        try (PreparedStatement preparedStatement = con.prepareStatement(query.toString())) {
+            int index = 1;
+            for (Object value : values) {
+                preparedStatement.setObject(index++, value);
+            }
+            preparedStatement.setLong(index, id);
+            return preparedStatement.executeUpdate() > 0;
+        }
     }
 
-    private Optional<Employee> findById(Connection con, Long id) {
-        Employee employee = null;
-        String query = "SELECT * FROM employee WHERE id = ?;";
-        try (PreparedStatement preparedStatement = con.prepareStatement(query)) {
-            preparedStatement.setLong(1, id);
-            try (ResultSet rs = preparedStatement.executeQuery()) {
-                if (rs.next()) {
-                    employee = setDatabaseAttributesToEmployee(rs);
-                }
+    private void appendAssignment(StringBuilder query, List<Object> values, String column, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (!values.isEmpty()) {
+            query.append(", ");
+        }
+        query.append(column).append(" = ?");
+        values.add(value);
+    }
+
+    private void setGeneratedKeys(PreparedStatement preparedStatement, List<Employee> chunk) throws SQLException {
+        try (ResultSet rs = preparedStatement.getGeneratedKeys()) {
+            int index = 0;
+            while (rs.next() && index < chunk.size()) {
+                chunk.get(index++).setId(rs.getLong(1));
+            }
+            if (index != chunk.size()) {
+                throw new SQLException("Expected " + chunk.size() + " generated keys but got " + index);
             }
-        } catch (Exception e) {
-            throw new DatabaseException("Error Selecting the employee", e);
         }
-        return Optional.ofNullable(employee);
+    }
+
+    @FunctionalInterface
+    private interface RowMapping<T> {
+        T map(EmployeeRowMapper mapper, ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface LockedWrite {
+        Employee apply(Connection con, Employee previous) throws SQLException;
+    }
+
+    /**
+     * Builds (once per shape) the list query for the given projection and predicates. Predicates are
+     * always emitted in the same order so that each shape maps to exactly one SQL string, and every
+     * value is bound as a parameter; the indexes in {@code db/schema.sql} cover each combination.
+     */
+    private String listQuery(boolean keyset, Set<EmployeeField> fields, EmployeeFilter filter) {
+        int shape = (keyset ? KEYSET_SHAPE : 0) | fieldsMask(fields) << 5 | filter.mask();
+        return QUERY_SHAPES.get(shape, s -> {
+            StringBuilder query = new StringBuilder("SELECT ").append(selectColumns(fields)).append(" FROM employee");
+            appendPredicates(query, s, keyset ? "id > ?" : null);
+            query.append(keyset ? " ORDER BY id LIMIT ?;" : " ORDER BY id LIMIT ? OFFSET ?;");
+            return query.toString();
+        });
+    }
+
+    private void appendPredicates(StringBuilder query, int shape, String idPredicate) {
+        List<String> predicates = new ArrayList<>(6);
+        if ((shape & EmployeeFilter.ROLE) != 0) {
+            predicates.add("role = ?");
+        }
+        if ((shape & EmployeeFilter.MIN_SALARY) != 0) {
+            predicates.add("salary >= ?");
+        }
+        if ((shape & EmployeeFilter.MAX_SALARY) != 0) {
+            predicates.add("salary <= ?");
+        }
+        if ((shape & EmployeeFilter.HIRED_FROM) != 0) {
+            predicates.add("hiring_date >= ?");
+        }
+        if ((shape & EmployeeFilter.HIRED_TO) != 0) {
+            predicates.add("hiring_date <= ?");
+        }
+        if (idPredicate != null) {
+            predicates.add(idPredicate);
+        }
+        if (!predicates.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+    }
+
+    private int setFilterStatements(PreparedStatement preparedStatement, EmployeeFilter filter, int index) throws SQLException {
+        if (filter.getRole() != null) {
+            preparedStatement.setString(index++, filter.getRole().name());
+        }
+        if (filter.getMinSalary() != null) {
+            preparedStatement.setBigDecimal(index++, filter.getMinSalary());
+        }
+        if (filter.getMaxSalary() != null) {
+            preparedStatement.setBigDecimal(index++, filter.getMaxSalary());
+        }
+        if (filter.getHiredFrom() != null) {
+            preparedStatement.setDate(index++, Date.valueOf(filter.getHiredFrom()));
+        }
+        if (filter.getHiredTo() != null) {
+            preparedStatement.setDate(index++, Date.valueOf(filter.getHiredTo()));
+        }
+        return index;
+    }
+
+    private int fieldsMask(Set<EmployeeField> fields) {
+        int mask = 0;
+        for (EmployeeField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * The ID is always selected: it identifies the row and is needed for cursors.
+     */
+    private String selectColumns(Set<EmployeeField> fields) {
+        if (fields.contains(EmployeeField.ID)) {
+            return EmployeeField.columns(fields);
+        }
+        EnumSet<EmployeeField> withId = EnumSet.of(EmployeeField.ID);
+        withId.addAll(fields);
+        return EmployeeField.columns(withId);
     }
 }
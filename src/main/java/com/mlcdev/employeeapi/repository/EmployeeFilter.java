@@ -0,0 +1,97 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.model.Role;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Optional predicates for list queries. Null values mean "no restriction".
+ */
+public class EmployeeFilter {
+
+    public static final EmployeeFilter NONE = new EmployeeFilter(null, null, null, null, null);
+
+    static final int ROLE = 1;
+    static final int MIN_SALARY = 1 << 1;
+    static final int MAX_SALARY = 1 << 2;
+    static final int HIRED_FROM = 1 << 3;
+    static final int HIRED_TO = 1 << 4;
+
+    private final Role role;
+    private final BigDecimal minSalary;
+    private final BigDecimal maxSalary;
+    private final LocalDate hiredFrom;
+    private final LocalDate hiredTo;
+
+    public EmployeeFilter(Role role, BigDecimal minSalary, BigDecimal maxSalary, LocalDate hiredFrom, LocalDate hiredTo) {
+        this.role = role;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.hiredFrom = hiredFrom;
+        this.hiredTo = hiredTo;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+
+    public LocalDate getHiredFrom() {
+        return hiredFrom;
+    }
+
+    public LocalDate getHiredTo() {
+        return hiredTo;
+    }
+
+    public boolean isEmpty() {
+        return mask() == 0;
+    }
+
+    /**
+     * Bit set of the predicates in use; equal masks produce the same SQL shape.
+     */
+    int mask() {
+        int mask = 0;
+        if (role != null) {
+            mask |= ROLE;
+        }
+        if (minSalary != null) {
+            mask |= MIN_SALARY;
+        }
+        if (maxSalary != null) {
+            mask |= MAX_SALARY;
+        }
+        if (hiredFrom != null) {
+            mask |= HIRED_FROM;
+        }
+        if (hiredTo != null) {
+            mask |= HIRED_TO;
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeFilter that = (EmployeeFilter) o;
+        return role == that.role && Objects.equals(minSalary, that.minSalary)
+                && Objects.equals(maxSalary, that.maxSalary)
+                && Objects.equals(hiredFrom, that.hiredFrom)
+                && Objects.equals(hiredTo, that.hiredTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(role, minSalary, maxSalary, hiredFrom, hiredTo);
+    }
+}
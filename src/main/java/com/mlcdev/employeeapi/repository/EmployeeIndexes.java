@@ -0,0 +1,77 @@
+package com.mlcdev.employeeapi.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the secondary indexes of {@code db/schema.sql} that an existing table is missing.
+ * The schema script only runs when the database volume is created, so without this a database
+ * created before the indexes existed would answer every filtered page with a full table scan.
+ * The existing indexes are read from the driver metadata first, which makes it safe to run on
+ * every startup. A failure (for instance a user without the ALTER privilege) is logged and the
+ * application starts anyway: the queries still work, only slower.
+ */
+public final class EmployeeIndexes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeIndexes.class);
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("idx_employee_role_hiring_date", "role, hiring_date");
+        INDEXES.put("idx_employee_role_salary", "role, salary");
+        INDEXES.put("idx_employee_hiring_date", "hiring_date");
+        INDEXES.put("idx_employee_salary", "salary");
+    }
+
+    private EmployeeIndexes() {
+    }
+
+    /**
+     * Returns the number of indexes created.
+     */
+    public static int ensure(DataSource dataSource) {
+        int created = 0;
+        try (Connection con = dataSource.getConnection()) {
+            Set<String> existing = existingIndexes(con);
+            try (Statement statement = con.createStatement()) {
+                for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                    if (!existing.contains(index.getKey())) {
+                        statement.execute("CREATE INDEX " + index.getKey() + " ON employee (" + index.getValue() + ");");
+                        created++;
+                        LOGGER.info("Created the missing index {}.", index.getKey());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Could not create the employee indexes, filtered queries may scan the table: {}", e.getMessage());
+        }
+        return created;
+    }
+
+    private static Set<String> existingIndexes(Connection con) throws SQLException {
+        DatabaseMetaData metaData = con.getMetaData();
+        String table = metaData.storesUpperCaseIdentifiers() ? "EMPLOYEE" : "employee";
+        Set<String> names = new HashSet<>();
+        try (ResultSet rs = metaData.getIndexInfo(con.getCatalog(), null, table, false, false)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (name != null) {
+                    names.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+}
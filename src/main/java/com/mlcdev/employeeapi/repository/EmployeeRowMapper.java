@@ -0,0 +1,94 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.EmployeeField;
+import com.mlcdev.employeeapi.model.Role;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps employee rows by column position. The positions are resolved once per {@link ResultSet}
+ * from its metadata, so reading a row doesn't look any column up by name; columns missing from
+ * the select list (sparse fieldsets) are left null. Roles are read through a table built from
+ * {@link Role#values()}, and the hiring date is read straight into a {@link LocalDate}.
+ */
+public final class EmployeeRowMapper {
+
+    private static final int ABSENT = 0;
+    private static final Map<String, Role> ROLES = new HashMap<>();
+
+    static {
+        for (Role role : Role.values()) {
+            ROLES.put(role.name(), role);
+        }
+    }
+
+    private final int id;
+    private final int name;
+    private final int salary;
+    private final int hiringDate;
+    private final int role;
+
+    private EmployeeRowMapper(int id, int name, int salary, int hiringDate, int role) {
+        this.id = id;
+        this.name = name;
+        this.salary = salary;
+        this.hiringDate = hiringDate;
+        this.role = role;
+    }
+
+    /**
+     * Resolves the column positions of the given result set. Call once, before the first row.
+     */
+    public static EmployeeRowMapper of(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int[] positions = new int[EmployeeField.values().length];
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            String label = metaData.getColumnLabel(column);
+            for (EmployeeField field : EmployeeField.values()) {
+                if (positions[field.ordinal()] == ABSENT && field.getColumn().equalsIgnoreCase(label)) {
+                    positions[field.ordinal()] = column;
+                }
+            }
+        }
+        if (positions[EmployeeField.ID.ordinal()] == ABSENT) {
+            throw new SQLException("The result set has no id column");
+        }
+        return new EmployeeRowMapper(positions[EmployeeField.ID.ordinal()], positions[EmployeeField.NAME.ordinal()],
+                positions[EmployeeField.SALARY.ordinal()], positions[EmployeeField.HIRING_DATE.ordinal()],
+                positions[EmployeeField.ROLE.ordinal()]);
+    }
+
+    public Employee toEmployee(ResultSet resultSet) throws SQLException {
+        return new Employee(resultSet.getLong(id),
+                name == ABSENT ? null : resultSet.getString(name),
+                salary == ABSENT ? null : resultSet.getBigDecimal(salary),
+                hiringDate == ABSENT ? null : resultSet.getObject(hiringDate, LocalDate.class),
+                role == ABSENT ? null : toRole(resultSet.getString(role)));
+    }
+
+    /**
+     * Maps the row straight to the API representation, for callers that never need the entity.
+     */
+    public EmployeeDTO toDTO(ResultSet resultSet) throws SQLException {
+        return new EmployeeDTO(resultSet.getLong(id),
+                name == ABSENT ? null : resultSet.getString(name),
+                salary == ABSENT ? null : resultSet.getBigDecimal(salary),
+                hiringDate == ABSENT ? null : resultSet.getObject(hiringDate, LocalDate.class),
+                role == ABSENT ? null : toRole(resultSet.getString(role)).name());
+    }
+
+    private static Role toRole(String value) throws SQLException {
+        Role mapped = ROLES.get(value);
+        if (mapped == null) {
+            throw new SQLException("Unknown role in the employee table: " + value);
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mlcdev.employeeapi.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded LRU of generated SQL keyed by a shape code (query kind, projected columns and
+ * predicates in use). Equal shapes always return the identical SQL text, which is what the
+ * driver's prepared statement cache ({@code prepStmtCacheSize}) keys on.
+ */
+class QueryShapeCache {
+
+    private final Map<Integer, String> shapes;
+
+    QueryShapeCache(int maxShapes) {
+        this.shapes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > maxShapes;
+            }
+        };
+    }
+
+    synchronized String get(int shape, IntFunction<String> builder) {
+        String sql = shapes.get(shape);
+        if (sql == null) {
+            sql = builder.apply(shape);
+            shapes.put(shape, sql);
+        }
+        return sql;
+    }
+
+    synchronized int size() {
+        return shapes.size();
+    }
+}
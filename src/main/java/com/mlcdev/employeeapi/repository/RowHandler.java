@@ -0,0 +1,12 @@
+package com.mlcdev.employeeapi.repository;
+
+import java.io.IOException;
+
+/**
+ * Receives rows one at a time while a query result is being streamed, so callers
+ * can write each row out without collecting the whole result in memory.
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+    void handle(T row) throws IOException;
+}
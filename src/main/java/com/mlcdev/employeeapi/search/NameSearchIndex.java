@@ -0,0 +1,253 @@
+package com.mlcdev.employeeapi.search;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.exception.DatabaseException;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.EmployeeField;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.service.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Type-ahead index over employee names. Names are normalized (lower case, accents removed) and
+ * split into tokens; a sorted map from token to the IDs containing it turns every query term into
+ * a prefix range scan. Postings are primitive {@code long} arrays, so beyond the ID-to-name map
+ * each name only costs one {@code long} per token. The tokens of every name are also kept per ID,
+ * sharing the strings of the sorted map, so multi-term queries and removals never re-tokenize.
+ * <p>
+ * Results follow the order of the matched token, so exact tokens come before longer ones
+ * ("car" before "carla" before "carlos"), and the scan stops as soon as {@code limit} names
+ * matched every term.
+ */
+public class NameSearchIndex implements EmployeeChangeListener {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    static final int MAX_SCANNED_IDS = 50_000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(NameSearchIndex.class);
+
+    private final TreeMap<String, Postings> tokens = new TreeMap<>();
+    private final Map<Long, IndexedName> names = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes every employee with a single streaming pass over (id, name).
+     */
+    public void load(EmployeeDAO dao) {
+        try {
+            dao.streamAll(EnumSet.of(EmployeeField.NAME), employee -> index(employee.getId(), employee.getName()));
+        } catch (IOException e) {
+            throw new DatabaseException("Error on loading the name search index", e);
+        }
+        LOGGER.info("Name search index loaded with {} employees and {} tokens.", size(), tokenCount());
+    }
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (previous != null && current != null && Objects.equals(previous.getName(), current.getName())) {
+            return;
+        }
+        if (previous != null) {
+            remove(previous.getId());
+        }
+        if (current != null) {
+            index(current.getId(), current.getName());
+        }
+    }
+
+    @Override
+    public void onBulkChange(Set<Long> deletedIds) {
+        for (Long id : deletedIds) {
+            remove(id);
+        }
+    }
+
+    public void index(Long id, String name) {
+        if (id == null || name == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            List<String> nameTokens = tokenize(name);
+            String[] shared = new String[nameTokens.size()];
+            for (int i = 0; i < shared.length; i++) {
+                Postings postings = tokens.computeIfAbsent(nameTokens.get(i), Postings::new);
+                postings.add(id);
+                shared[i] = postings.token;
+            }
+            names.put(id, new IndexedName(name, shared));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} employees (ID and name only) whose name has a token starting
+     * with each term of {@code query}. The longest term drives the scan; the others are checked per candidate.
+     */
+    public List<EmployeeDTO> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String driver = terms.stream().max((a, b) -> Integer.compare(a.length(), b.length())).get();
+        List<EmployeeDTO> results = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        int scanned = 0;
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Postings> range = tokens.subMap(driver, true, driver + Character.MAX_VALUE, false);
+            for (Postings postings : range.values()) {
+                for (int i = 0; i < postings.size; i++) {
+                    long id = postings.ids[i];
+                    if (++scanned > MAX_SCANNED_IDS) {
+                        return results;
+                    }
+                    if (!seen.add(id)) {
+                        continue;
+                    }
+                    IndexedName name = names.get(id);
+                    if (terms.size() == 1 || matchesAll(name.tokens, terms)) {
+                        results.add(new EmployeeDTO(id, name.name, null, null, null));
+                        if (results.size() == limit) {
+                            return results;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return tokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> result = new ArrayList<>(4);
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    private boolean matchesAll(String[] nameTokens, List<String> terms) {
+        for (String term : terms) {
+            boolean matched = false;
+            for (String token : nameTokens) {
+                if (token.startsWith(term)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeLocked(Long id) {
+        IndexedName name = names.remove(id);
+        if (name == null) {
+            return;
+        }
+        for (String token : name.tokens) {
+            Postings postings = tokens.get(token);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                tokens.remove(token);
+            }
+        }
+    }
+
+    private record IndexedName(String name, String[] tokens) {
+    }
+
+    /**
+     * Sorted, growable array of IDs. New employees get increasing IDs, so adds are appends.
+     */
+    private static class Postings {
+        private final String token;
+        private long[] ids = new long[2];
+        private int size;
+
+        Postings(String token) {
+            this.token = token;
+        }
+
+        void add(long id) {
+            int position = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -(position + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mlcdev.employeeapi.service;
+
+import com.mlcdev.employeeapi.model.Employee;
+
+import java.util.Set;
+
+/**
+ * Notified by {@link EmployeeService} after a write commits. {@code previous} is null for an
+ * insert and {@code current} is null for a delete. Called on the request thread, so
+ * implementations must be cheap and thread-safe.
+ */
+@FunctionalInterface
+public interface EmployeeChangeListener {
+
+    void onChange(Employee previous, Employee current);
+
+    /**
+     * Called after a set-based write that changed rows without per-row notifications.
+     * {@code deletedIds} holds the IDs a bulk delete targeted (some may not have existed).
+     */
+    default void onBulkChange(Set<Long> deletedIds) {
+    }
+}
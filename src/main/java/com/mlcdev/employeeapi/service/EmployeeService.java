@@ -1,37 +1,195 @@
 package com.mlcdev.employeeapi.service;
 
+import com.mlcdev.employeeapi.cache.EmployeeCache;
+import com.mlcdev.employeeapi.cache.SingleFlight;
+import com.mlcdev.employeeapi.dto.BulkDeleteDTO;
+import com.mlcdev.employeeapi.dto.BulkRaiseDTO;
+import com.mlcdev.employeeapi.dto.Cursor;
+import com.mlcdev.employeeapi.dto.EmployeeBatchDTO;
 import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.dto.ImportReportDTO;
+import com.mlcdev.employeeapi.dto.JobDTO;
+import com.mlcdev.employeeapi.dto.PageDTO;
+import com.mlcdev.employeeapi.dto.RecordErrorDTO;
 import com.mlcdev.employeeapi.exception.BusinessRuleException;
+import com.mlcdev.employeeapi.exception.DatabaseException;
 import com.mlcdev.employeeapi.exception.NotFoundException;
+import com.mlcdev.employeeapi.importer.EmployeeRecordReader;
+import com.mlcdev.employeeapi.importer.ImportFormat;
+import com.mlcdev.employeeapi.importer.ImportRecord;
+import com.mlcdev.employeeapi.job.Job;
+import com.mlcdev.employeeapi.job.JobRegistry;
 import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.EmployeeField;
 import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.BulkProgress;
+import com.mlcdev.employeeapi.repository.EmployeeBatchLoader;
+import com.mlcdev.employeeapi.repository.EmployeeChange;
 import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.EmployeeFilter;
+import com.mlcdev.employeeapi.repository.RowHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 public class EmployeeService {
     private final EmployeeDAO dao;
+    private final EmployeeCache cache;
+    private final JobRegistry jobs;
+    private final EmployeeBatchLoader batchLoader;
+    private final List<EmployeeChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final SingleFlight<Long, Employee> idFlights = new SingleFlight<>();
+    private final SingleFlight<PageKey, List<Employee>> pageFlights = new SingleFlight<>();
+    private static final BigDecimal MIN_RAISE_PERCENT = new BigDecimal("-100");
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    public static final int MAX_MULTI_GET_IDS = 1000;
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeService.class);
 
     public EmployeeService(EmployeeDAO dao) {
+        this(dao, new EmployeeCache(0, 0));
+    }
+
+    public EmployeeService(EmployeeDAO dao, EmployeeCache cache) {
+        this(dao, cache, null);
+    }
+
+    public EmployeeService(EmployeeDAO dao, EmployeeCache cache, JobRegistry jobs) {
+        this(dao, cache, jobs, null);
+    }
+
+    /**
+     * @param batchLoader when not null, cache-missing {@code findById} calls are micro-batched
+     *                    into {@code IN} queries instead of querying one ID at a time
+     */
+    public EmployeeService(EmployeeDAO dao, EmployeeCache cache, JobRegistry jobs, EmployeeBatchLoader batchLoader) {
         this.dao = dao;
+        this.cache = cache;
+        this.jobs = jobs;
+        this.batchLoader = batchLoader;
+    }
+
+    public void addChangeListener(EmployeeChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Number of {@code findById} and default page reads answered by a concurrent identical query.
+     */
+    public long getCoalescedReadCount() {
+        return idFlights.getSharedCount() + pageFlights.getSharedCount();
+    }
+
+    /**
+     * Sparse fieldset read. A cached employee is projected in memory; otherwise only the
+     * requested columns are selected, and the partial row is not cached.
+     */
+    public EmployeeDTO findById(Long id, Set<EmployeeField> fields) {
+        if (EmployeeField.isAll(fields)) {
+            return findById(id);
+        }
+        Optional<Employee> cachedEmployee = cache.get(id);
+        Employee employee = cachedEmployee.isPresent() ? project(cachedEmployee.get(), fields) : verifyOptional(dao.findById(id, fields));
+        LOGGER.debug("Employee with ID: {}, successfully found with fields {}.", id, fields);
+        return new EmployeeDTO(employee);
+    }
+
+    /**
+     * Loads a row for the cache. While the cache is on, the read goes to the primary: a row read
+     * from a lagging replica right after a write would otherwise be cached for the whole TTL.
+     * The batch loader is wired to the primary for the same reason.
+     */
+    private Optional<Employee> loadById(Long id) {
+        if (batchLoader != null) {
+            return batchLoader.load(id);
+        }
+        return cache.isEnabled() ? dao.findByIdOnPrimary(id) : dao.findById(id);
     }
 
     public EmployeeDTO findById(Long id) {
-        Optional<Employee> optionalEmployee = dao.findById(id);
-        Employee employee= verifyOptional(optionalEmployee);
+        Optional<Employee> cachedEmployee = cache.get(id);
+        if (cachedEmployee.isPresent()) {
+            LOGGER.debug("Employee with ID: {}, found in cache.", id);
+            return new EmployeeDTO(cachedEmployee.get());
+        }
+        long loadGeneration = cache.generation();
+        Employee employee = idFlights.execute(id, () -> verifyOptional(loadById(id)));
+        cache.putIfFresh(id, employee, loadGeneration);
         LOGGER.debug("Employee with ID: {}, successfully found.", id);
         return new EmployeeDTO(employee);
     }
 
+    /**
+     * Multi-get. Cached employees are answered from the cache and the rest are loaded with
+     * chunked {@code IN} queries. Duplicate IDs are answered once; unknown IDs are listed in
+     * {@code missing} instead of failing the request.
+     */
+    public EmployeeBatchDTO findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            throw new BusinessRuleException("At least one ID must be given");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_MULTI_GET_IDS) {
+            throw new BusinessRuleException("At most " + MAX_MULTI_GET_IDS + " IDs can be requested at once");
+        }
+        Map<Long, Employee> found = new HashMap<>();
+        List<Long> toLoad = new ArrayList<>();
+        for (Long id : requested) {
+            Optional<Employee> cachedEmployee = cache.get(id);
+            if (cachedEmployee.isPresent()) {
+                found.put(id, cachedEmployee.get());
+            } else {
+                toLoad.add(id);
+            }
+        }
+        long loadGeneration = cache.generation();
+        List<Employee> loaded = cache.isEnabled() ? dao.findAllByIdsOnPrimary(toLoad) : dao.findAllByIds(toLoad);
+        for (Employee employee : loaded) {
+            found.put(employee.getId(), employee);
+            cache.putIfFresh(employee.getId(), employee, loadGeneration);
+        }
+        List<EmployeeDTO> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            Employee employee = found.get(id);
+            if (employee != null) {
+                items.add(new EmployeeDTO(employee));
+            } else {
+                missing.add(id);
+            }
+        }
+        LOGGER.debug("Multi-get of {} IDs: {} loaded from the database, {} missing.", requested.size(), toLoad.size(), missing.size());
+        return new EmployeeBatchDTO(items, missing);
+    }
+
     public List<EmployeeDTO> findAll(int page, int size) {
+        return findAll(page, size, EmployeeField.ALL);
+    }
+
+    public List<EmployeeDTO> findAll(int page, int size, Set<EmployeeField> fields) {
+        return findAll(page, size, fields, EmployeeFilter.NONE);
+    }
+
+    public List<EmployeeDTO> findAll(int page, int size, Set<EmployeeField> fields, EmployeeFilter filter) {
+        validateFilter(filter);
         if (size <= 0) {
             throw new BusinessRuleException("The 'size' must be greater than 0");
         }
@@ -40,40 +198,385 @@ public class EmployeeService {
         }
         int limit = size;
         int offset = (page - 1) * size;
-        List<EmployeeDTO> dtoList = dao.findAll(limit, offset).stream().map(x -> new EmployeeDTO(x)).collect(Collectors.toList());
+        List<Employee> employees = EmployeeField.isAll(fields) && filter.isEmpty()
+                ? pageFlights.execute(new PageKey(limit, offset), () -> dao.findAll(limit, offset))
+                : dao.findAll(limit, offset, fields, filter);
+        List<EmployeeDTO> dtoList = employees.stream().map(x -> new EmployeeDTO(x)).collect(Collectors.toList());
         LOGGER.debug("Got a list with {} DTOs.", dtoList.size());
         return dtoList;
     }
 
+    public PageDTO<EmployeeDTO> findAllAfter(long afterId, int size) {
+        return findAllAfter(afterId, size, EmployeeField.ALL);
+    }
+
+    public PageDTO<EmployeeDTO> findAllAfter(long afterId, int size, Set<EmployeeField> fields) {
+        return findAllAfter(afterId, size, fields, EmployeeFilter.NONE);
+    }
+
+    public PageDTO<EmployeeDTO> findAllAfter(long afterId, int size, Set<EmployeeField> fields, EmployeeFilter filter) {
+        validateFilter(filter);
+        if (size <= 0) {
+            throw new BusinessRuleException("The 'size' must be greater than 0");
+        }
+        if (afterId < 0) {
+            throw new BusinessRuleException("The cursor must point to a positive ID");
+        }
+        List<Employee> employees = EmployeeField.isAll(fields) && filter.isEmpty()
+                ? dao.findAllAfter(afterId, size + 1)
+                : dao.findAllAfter(afterId, size + 1, fields, filter);
+        boolean hasNext = employees.size() > size;
+        if (hasNext) {
+            employees = employees.subList(0, size);
+        }
+        List<EmployeeDTO> dtoList = employees.stream().map(EmployeeDTO::new).collect(Collectors.toList());
+        String next = hasNext ? Cursor.encode(dtoList.getLast().getId()) : null;
+        LOGGER.debug("Got a keyset page with {} DTOs after ID: {}.", dtoList.size(), afterId);
+        return new PageDTO<>(dtoList, size, next);
+    }
+
+    public void exportAll(RowHandler<EmployeeDTO> handler) throws IOException {
+        dao.streamAllAsDTOs(handler);
+        LOGGER.debug("Employee export finished.");
+    }
+
     public EmployeeDTO add(EmployeeDTO dto) {
         Employee employee = new Employee();
         dtoToEntity(dto, employee);
         employee = dao.save(employee);
+        pageFlights.forgetAll();
+        notifyListeners(null, employee);
         dto = new EmployeeDTO(employee);
         LOGGER.info("Employee saved with ID: {}.", dto.getId());
         return dto;
     }
 
+    public List<EmployeeDTO> addAll(List<EmployeeDTO> dtoList) {
+        if (dtoList == null || dtoList.isEmpty()) {
+            throw new BusinessRuleException("The batch must contain at least one employee");
+        }
+        List<Employee> employees = new ArrayList<>(dtoList.size());
+        for (int i = 0; i < dtoList.size(); i++) {
+            if (dtoList.get(i) == null) {
+                throw new BusinessRuleException("Employee at index " + i + " can't be null");
+            }
+            Employee employee = new Employee();
+            try {
+                dtoToEntity(dtoList.get(i), employee);
+            } catch (BusinessRuleException e) {
+                throw new BusinessRuleException("Employee at index " + i + ": " + e.getMessage(), e);
+            }
+            employees.add(employee);
+        }
+        List<Employee> savedEmployees = dao.saveAll(employees);
+        pageFlights.forgetAll();
+        savedEmployees.forEach(employee -> notifyListeners(null, employee));
+        List<EmployeeDTO> savedList = savedEmployees.stream().map(EmployeeDTO::new).collect(Collectors.toList());
+        LOGGER.info("Batch of {} employees saved.", savedList.size());
+        return savedList;
+    }
+
     public EmployeeDTO update(EmployeeDTO dto) {
         Long id = dto.getId();
         validId(id);
         Employee employee = new Employee();
         dtoToEntity(dto, employee);
         employee.setId(id);
-        Employee finalEmployee = verifyOptional(dao.update(employee));
+        Employee finalEmployee;
+        if (listeners.isEmpty()) {
+            Optional<Employee> updatedEmployee = dao.update(employee);
+            invalidate(id);
+            finalEmployee = verifyOptional(updatedEmployee);
+        } else {
+            Optional<Employee> cachedEmployee = cache.peek(id);
+            Optional<EmployeeChange> change = cachedEmployee.isPresent()
+                    ? writeOverCached(dao.patch(id, employee), cachedEmployee.get(), employee)
+                    : dao.updateWithPrevious(employee);
+            invalidate(id);
+            finalEmployee = verifyOptional(change.map(EmployeeChange::current));
+            notifyListeners(change.get().previous(), finalEmployee);
+        }
         LOGGER.info("Employee with ID: {} successfully updated!",finalEmployee.getId());
         return new EmployeeDTO(finalEmployee);
     }
 
+    /**
+     * Applies the non-null fields of {@code changes} and returns the merged employee. When the
+     * employee is cached, or every field was supplied, the result is merged in memory and the
+     * database sees a single UPDATE; otherwise the row is read back on the same connection.
+     * With listeners registered and the employee not cached, the row is locked and read before
+     * the UPDATE in the same transaction instead.
+     */
+    public EmployeeDTO patch(Long id, EmployeeDTO changes) {
+        Employee employeeChanges = patchToEntity(id, changes);
+        if (!listeners.isEmpty()) {
+            return new EmployeeDTO(patchNotifyingListeners(id, employeeChanges));
+        }
+        Optional<Employee> previousEmployee = cache.peek(id);
+        Employee finalEmployee;
+        if (previousEmployee.isPresent() || isComplete(employeeChanges)) {
+            boolean updated = dao.patch(id, employeeChanges);
+            invalidate(id);
+            if (!updated) {
+                throw new NotFoundException("The employee does not exist");
+            }
+            finalEmployee = merge(previousEmployee.orElseGet(Employee::new), employeeChanges, id);
+        } else {
+            Optional<Employee> patchedEmployee = dao.patchAndGet(id, employeeChanges);
+            invalidate(id);
+            finalEmployee = verifyOptional(patchedEmployee);
+        }
+        LOGGER.info("Employee with ID: {} successfully patched!", id);
+        return new EmployeeDTO(finalEmployee);
+    }
+
+    /**
+     * Applies the non-null fields of {@code changes} without reading the row back.
+     */
+    public void patchWithoutResult(Long id, EmployeeDTO changes) {
+        Employee employeeChanges = patchToEntity(id, changes);
+        if (!listeners.isEmpty()) {
+            patchNotifyingListeners(id, employeeChanges);
+            return;
+        }
+        boolean updated = dao.patch(id, employeeChanges);
+        invalidate(id);
+        if (!updated) {
+            throw new NotFoundException("The employee does not exist");
+        }
+        LOGGER.info("Employee with ID: {} successfully patched!", id);
+    }
+
+    private Employee patchNotifyingListeners(Long id, Employee employeeChanges) {
+        Optional<Employee> cachedEmployee = cache.peek(id);
+        Optional<EmployeeChange> change = cachedEmployee.isPresent()
+                ? writeOverCached(dao.patch(id, employeeChanges), cachedEmployee.get(), merge(cachedEmployee.get(), employeeChanges, id))
+                : dao.patchWithPrevious(id, employeeChanges);
+        invalidate(id);
+        Employee finalEmployee = verifyOptional(change.map(EmployeeChange::current));
+        notifyListeners(change.get().previous(), finalEmployee);
+        LOGGER.info("Employee with ID: {} successfully patched!", id);
+        return finalEmployee;
+    }
+
     public void delete(Long id) {
         validId(id);
-        boolean deleted = dao.delete(id);
+        Optional<Employee> previousEmployee = listeners.isEmpty() ? Optional.empty() : cache.peek(id);
+        boolean deleted;
+        if (listeners.isEmpty() || previousEmployee.isPresent()) {
+            deleted = dao.delete(id);
+        } else {
+            previousEmployee = dao.deleteWithPrevious(id);
+            deleted = previousEmployee.isPresent();
+        }
+        invalidate(id);
         if (!deleted) {
             throw new NotFoundException("The Id " + id + " was not found to delete");
         }
+        previousEmployee.ifPresent(previous -> notifyListeners(previous, null));
         LOGGER.info("Employee with ID: {} successfully deleted!", id);
     }
 
+    /**
+     * The change listeners see for a write that ran as a single statement because the previous
+     * row was cached. The cached row is only as fresh as the cache, so a concurrent write can
+     * make the aggregates drift until their next reconcile; the locked read is used otherwise.
+     */
+    private Optional<EmployeeChange> writeOverCached(boolean written, Employee cachedEmployee, Employee current) {
+        return written ? Optional.of(new EmployeeChange(cachedEmployee, current)) : Optional.empty();
+    }
+
+    /**
+     * Drops the cached row and any in-flight read that may have loaded it before the write. The
+     * flights go first: a reader that sees the new cache generation must not be able to join a
+     * load started before the write, or it would cache the old row under the new generation.
+     */
+    private void invalidate(Long id) {
+        idFlights.forget(id);
+        pageFlights.forgetAll();
+        cache.invalidate(id);
+    }
+
+    private void notifyListeners(Employee previous, Employee current) {
+        for (EmployeeChangeListener listener : listeners) {
+            try {
+                listener.onChange(previous, current);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Employee change listener {} failed.", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Starts a background job that raises the salary of every matching employee by
+     * {@code percent} (negative values lower it), in committed primary key chunks.
+     */
+    public JobDTO raiseSalaries(BulkRaiseDTO dto) {
+        if (dto == null || dto.getPercent() == null) {
+            throw new BusinessRuleException("The 'percent' field is required");
+        }
+        if (dto.getPercent().signum() == 0 || dto.getPercent().compareTo(MIN_RAISE_PERCENT) <= 0) {
+            throw new BusinessRuleException("The 'percent' must be different from 0 and greater than -100");
+        }
+        Role role = null;
+        if (dto.getRole() != null) {
+            validateRole(dto.getRole());
+            role = Role.valueOf(dto.getRole());
+        }
+        EmployeeFilter filter = new EmployeeFilter(role, dto.getMinSalary(), dto.getMaxSalary(), dto.getHiredFrom(), dto.getHiredTo());
+        validateFilter(filter);
+        BigDecimal factor = BigDecimal.ONE.add(dto.getPercent().movePointLeft(2));
+        Job job = requireJobs().submit("raise", -1, running -> {
+            try {
+                long affected = dao.raiseSalaries(filter, factor, running::advance);
+                LOGGER.info("Bulk raise of {}% applied to {} employees.", dto.getPercent(), affected);
+            } finally {
+                afterBulkChange(Set.of());
+            }
+        });
+        return job.toDTO();
+    }
+
+    /**
+     * Starts a background job that deletes the given IDs in committed chunks. Listeners are told
+     * only about the IDs of committed chunks, so a job that fails halfway doesn't drop employees
+     * that still exist.
+     */
+    public JobDTO deleteAll(BulkDeleteDTO dto) {
+        if (dto == null || dto.getIds() == null || dto.getIds().isEmpty()) {
+            throw new BusinessRuleException("The 'ids' list must contain at least one ID");
+        }
+        for (Long id : dto.getIds()) {
+            validId(id);
+        }
+        List<Long> ids = dto.getIds().stream().distinct().toList();
+        Job job = requireJobs().submit("delete", ids.size(), running -> {
+            Set<Long> deletedIds = new HashSet<>();
+            try {
+                long affected = dao.deleteByIds(ids, running::advance, deletedIds::addAll);
+                LOGGER.info("Bulk delete removed {} employees.", affected);
+            } finally {
+                afterBulkChange(deletedIds);
+            }
+        });
+        return job.toDTO();
+    }
+
+    public ImportReportDTO importEmployees(EmployeeRecordReader reader) throws IOException {
+        return importEmployees(reader, (processed, affected) -> {
+        });
+    }
+
+    /**
+     * Validates each record with the same rules as {@link #add} and saves the valid ones in
+     * chunks of {@value #IMPORT_CHUNK_SIZE}, one transaction per chunk. Invalid records are
+     * reported by line and skipped.
+     */
+    public ImportReportDTO importEmployees(EmployeeRecordReader reader, BulkProgress progress) throws IOException {
+        List<Employee> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<RecordErrorDTO> errors = new ArrayList<>();
+        long records = 0;
+        long imported = 0;
+        long rejected = 0;
+        int chunkRecords = 0;
+        ImportRecord record;
+        while ((record = reader.next()) != null) {
+            records++;
+            chunkRecords++;
+            String error = record.error();
+            if (error == null) {
+                Employee employee = new Employee();
+                try {
+                    dtoToEntity(record.employee(), employee);
+                    chunk.add(employee);
+                } catch (BusinessRuleException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new RecordErrorDTO(record.line(), error));
+                }
+            }
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                imported += saveImportChunk(chunk, imported);
+                progress.onChunk(chunkRecords, chunk.size());
+                chunk.clear();
+                chunkRecords = 0;
+            }
+        }
+        if (chunkRecords > 0) {
+            imported += saveImportChunk(chunk, imported);
+            progress.onChunk(chunkRecords, chunk.size());
+        }
+        LOGGER.info("Import read {} records: {} saved, {} rejected.", records, imported, rejected);
+        return new ImportReportDTO(records, imported, rejected, errors);
+    }
+
+    /**
+     * Starts a background import of a spooled request body. The file is deleted once the job ends.
+     */
+    public JobDTO importInBackground(Path file, ImportFormat format, Charset charset) {
+        Job job = requireJobs().submit("import", -1, running -> {
+            try (EmployeeRecordReader reader = EmployeeRecordReader.open(format, Files.newBufferedReader(file, charset))) {
+                running.setErrors(importEmployees(reader, running::advance).getErrors());
+            } catch (IOException e) {
+                throw new UncheckedIOException("The spooled import file could not be read", e);
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    LOGGER.warn("Could not delete the spooled import file {}.", file, e);
+                }
+            }
+        });
+        return job.toDTO();
+    }
+
+    private int saveImportChunk(List<Employee> chunk, long importedSoFar) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Employee> saved;
+        try {
+            saved = dao.saveAll(chunk);
+        } catch (DatabaseException e) {
+            throw new DatabaseException("Import stopped after " + importedSoFar + " employees were saved", e);
+        }
+        pageFlights.forgetAll();
+        saved.forEach(employee -> notifyListeners(null, employee));
+        return saved.size();
+    }
+
+    public JobDTO findJob(long id) {
+        return requireJobs().get(id).map(Job::toDTO)
+                .orElseThrow(() -> new NotFoundException("The job " + id + " does not exist"));
+    }
+
+    private JobRegistry requireJobs() {
+        if (jobs == null) {
+            throw new IllegalStateException("Background jobs are not configured");
+        }
+        return jobs;
+    }
+
+    /**
+     * Bulk writes bypass the per-row paths, so cached rows and listener state are rebuilt.
+     */
+    private void afterBulkChange(Set<Long> deletedIds) {
+        cache.clear();
+        idFlights.forgetAll();
+        pageFlights.forgetAll();
+        for (EmployeeChangeListener listener : listeners) {
+            try {
+                listener.onBulkChange(deletedIds);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Employee change listener {} failed.", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
     private void dtoToEntity(EmployeeDTO dto, Employee employee) {
         employeeDataValidation(dto);
         employee.setName(dto.getName());
@@ -83,6 +586,45 @@ public class EmployeeService {
     }
 
 
+    private Employee patchToEntity(Long id, EmployeeDTO dto) {
+        validId(id);
+        if (dto == null || (dto.getName() == null && dto.getSalary() == null && dto.getHiringDate() == null && dto.getRole() == null)) {
+            throw new BusinessRuleException("At least one field must be supplied");
+        }
+        if (dto.getName() != null && dto.getName().isBlank()) {
+            throw new BusinessRuleException("The name can't be blank");
+        }
+        if (dto.getSalary() != null && dto.getSalary().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BusinessRuleException("The salary must be greater than 0");
+        }
+        Employee employee = new Employee(dto.getName(), dto.getSalary(), dto.getHiringDate(), null);
+        if (dto.getRole() != null) {
+            validateRole(dto.getRole());
+            employee.setRole(Role.valueOf(dto.getRole()));
+        }
+        return employee;
+    }
+
+    private Employee project(Employee employee, Set<EmployeeField> fields) {
+        return new Employee(employee.getId(),
+                fields.contains(EmployeeField.NAME) ? employee.getName() : null,
+                fields.contains(EmployeeField.SALARY) ? employee.getSalary() : null,
+                fields.contains(EmployeeField.HIRING_DATE) ? employee.getHiringDate() : null,
+                fields.contains(EmployeeField.ROLE) ? employee.getRole() : null);
+    }
+
+    private boolean isComplete(Employee employee) {
+        return employee.getName() != null && employee.getSalary() != null && employee.getHiringDate() != null && employee.getRole() != null;
+    }
+
+    private Employee merge(Employee base, Employee changes, Long id) {
+        return new Employee(id,
+                changes.getName() != null ? changes.getName() : base.getName(),
+                changes.getSalary() != null ? changes.getSalary() : base.getSalary(),
+                changes.getHiringDate() != null ? changes.getHiringDate() : base.getHiringDate(),
+                changes.getRole() != null ? changes.getRole() : base.getRole());
+    }
+
     private void employeeDataValidation(EmployeeDTO dto) {
         if (dto.getName() == null) {
             throw new BusinessRuleException("The name can't be null");
@@ -118,6 +660,17 @@ public class EmployeeService {
         }
     }
 
+    private void validateFilter(EmployeeFilter filter) {
+        if (filter.getMinSalary() != null && filter.getMaxSalary() != null
+                && filter.getMinSalary().compareTo(filter.getMaxSalary()) > 0) {
+            throw new BusinessRuleException("The 'minSalary' can't be greater than 'maxSalary'");
+        }
+        if (filter.getHiredFrom() != null && filter.getHiredTo() != null
+                && filter.getHiredFrom().isAfter(filter.getHiredTo())) {
+            throw new BusinessRuleException("The 'hiredFrom' date can't be after 'hiredTo'");
+        }
+    }
+
     private void validId(Long id) {
         if (id == null) {
             throw new BusinessRuleException("The ID cannot be null");
@@ -134,4 +687,7 @@ public class EmployeeService {
         LOGGER.debug("The Optional contain a Employee");
         return optional.get();
     }
+
+    private record PageKey(int limit, int offset) {
+    }
 }
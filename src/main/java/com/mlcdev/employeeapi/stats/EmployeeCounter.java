@@ -0,0 +1,120 @@
+package com.mlcdev.employeeapi.stats;
+
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.EmployeeFilter;
+import com.mlcdev.employeeapi.service.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row counts for paginated responses without a {@code COUNT(*)} per request. The unfiltered total
+ * is an in-memory counter moved by inserts and deletes and replaced by an exact count on a
+ * schedule. Filtered totals are counted in SQL and reused for {@code filteredTtlSeconds}, so they
+ * can lag behind recent writes.
+ */
+public class EmployeeCounter implements EmployeeChangeListener, AutoCloseable {
+
+    private static final int MAX_FILTERED_COUNTS = 1000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeCounter.class);
+
+    private final EmployeeDAO dao;
+    private final long filteredTtlNanos;
+    private final AtomicLong total = new AtomicLong();
+    private final Map<EmployeeFilter, FilteredCount> filteredCounts = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private ScheduledExecutorService scheduler;
+
+    public EmployeeCounter(EmployeeDAO dao, long filteredTtlSeconds) {
+        this.dao = dao;
+        this.filteredTtlNanos = TimeUnit.SECONDS.toNanos(filteredTtlSeconds);
+    }
+
+    /**
+     * Loads the exact total once, then refreshes it every {@code periodSeconds} (0 disables it).
+     */
+    public void start(long periodSeconds) {
+        refreshQuietly();
+        if (periodSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-count-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public long count(EmployeeFilter filter) {
+        if (filter.isEmpty()) {
+            if (!loaded) {
+                refresh();
+            }
+            return total.get();
+        }
+        long now = System.nanoTime();
+        FilteredCount cached = filteredCounts.get(filter);
+        if (cached != null && now - cached.countedAt < filteredTtlNanos) {
+            return cached.count;
+        }
+        long count = dao.count(filter);
+        if (filteredCounts.size() >= MAX_FILTERED_COUNTS) {
+            filteredCounts.clear();
+        }
+        filteredCounts.put(filter, new FilteredCount(count, now));
+        return count;
+    }
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (previous == null && current != null) {
+            total.incrementAndGet();
+        } else if (previous != null && current == null) {
+            total.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onBulkChange(Set<Long> deletedIds) {
+        refreshQuietly();
+    }
+
+    /**
+     * Replaces the counter with an exact count and forgets every filtered count.
+     */
+    public void refresh() {
+        long exact = dao.count(EmployeeFilter.NONE);
+        long drift = exact - total.getAndSet(exact);
+        filteredCounts.clear();
+        if (loaded && drift != 0) {
+            LOGGER.info("Employee count refreshed, drift: {}.", drift);
+        }
+        loaded = true;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            LOGGER.error("Employee count refresh failed.", e);
+        }
+    }
+
+    private record FilteredCount(long count, long countedAt) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.mlcdev.employeeapi.stats;
+
+import com.mlcdev.employeeapi.dto.EmployeeStatsDTO;
+import com.mlcdev.employeeapi.dto.SalaryStatsDTO;
+import com.mlcdev.employeeapi.exception.DatabaseException;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.EmployeeField;
+import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.service.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Headcount and salary aggregates per {@link Role}, kept up to date from the service's change
+ * notifications so reading them never touches the database. Counts and sums are exact; percentiles
+ * come from a {@link SalarySketch} per role, merged for the overall figures.
+ * <p>
+ * Writes that happen while {@link #reconcile()} scans the table may be missed or counted twice,
+ * and writes that bypass the service are never seen; the periodic reconciliation rebuilds
+ * everything from SQL and corrects that drift.
+ */
+public class EmployeeStatistics implements EmployeeChangeListener, AutoCloseable {
+
+    private static final EnumSet<EmployeeField> STATS_FIELDS = EnumSet.of(EmployeeField.SALARY, EmployeeField.ROLE);
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeStatistics.class);
+
+    private final EmployeeDAO dao;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Role, RoleAggregate> aggregates = emptyAggregates();
+    private Instant reconciledAt;
+    private ScheduledExecutorService scheduler;
+
+    public EmployeeStatistics(EmployeeDAO dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Loads the aggregates once, then reconciles every {@code periodSeconds} (0 disables it).
+     */
+    public void start(long periodSeconds) {
+        reconcileQuietly();
+        if (periodSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-stats-reconciler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reconcileQuietly, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        lock.lock();
+        try {
+            if (previous != null && previous.getRole() != null && previous.getSalary() != null) {
+                aggregates.get(previous.getRole()).remove(previous.getSalary());
+            }
+            if (current != null && current.getRole() != null && current.getSalary() != null) {
+                aggregates.get(current.getRole()).add(current.getSalary());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onBulkChange(Set<Long> deletedIds) {
+        reconcileQuietly();
+    }
+
+    /**
+     * Rebuilds every aggregate from a single streaming pass over (role, salary).
+     */
+    public void reconcile() {
+        Map<Role, RoleAggregate> rebuilt = emptyAggregates();
+        try {
+            dao.streamAll(STATS_FIELDS, employee -> rebuilt.get(employee.getRole()).add(employee.getSalary()));
+        } catch (IOException e) {
+            throw new DatabaseException("Error on reconciling the employee statistics", e);
+        }
+        long drift;
+        lock.lock();
+        try {
+            drift = countOf(rebuilt) - countOf(aggregates);
+            aggregates = rebuilt;
+            reconciledAt = Instant.now();
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("Employee statistics reconciled, headcount drift: {}.", drift);
+    }
+
+    public EmployeeStatsDTO snapshot() {
+        lock.lock();
+        try {
+            Map<String, SalaryStatsDTO> roles = new LinkedHashMap<>();
+            RoleAggregate overall = new RoleAggregate();
+            for (Map.Entry<Role, RoleAggregate> entry : aggregates.entrySet()) {
+                roles.put(entry.getKey().name(), entry.getValue().toDTO());
+                overall.merge(entry.getValue());
+            }
+            return new EmployeeStatsDTO(overall.toDTO(), roles, reconciledAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            LOGGER.error("Employee statistics reconciliation failed.", e);
+        }
+    }
+
+    private static long countOf(Map<Role, RoleAggregate> aggregates) {
+        long count = 0;
+        for (RoleAggregate aggregate : aggregates.values()) {
+            count += aggregate.count;
+        }
+        return count;
+    }
+
+    private static Map<Role, RoleAggregate> emptyAggregates() {
+        Map<Role, RoleAggregate> aggregates = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            aggregates.put(role, new RoleAggregate());
+        }
+        return aggregates;
+    }
+
+    private static class RoleAggregate {
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private final SalarySketch sketch = new SalarySketch();
+
+        void add(BigDecimal salary) {
+            count++;
+            sum = sum.add(salary);
+            sketch.add(salary);
+        }
+
+        void remove(BigDecimal salary) {
+            count--;
+            sum = sum.subtract(salary);
+            sketch.remove(salary);
+        }
+
+        void merge(RoleAggregate other) {
+            count += other.count;
+            sum = sum.add(other.sum);
+            sketch.merge(other.sketch);
+        }
+
+        SalaryStatsDTO toDTO() {
+            BigDecimal average = count > 0 ? sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) : null;
+            return new SalaryStatsDTO(count, sum, average, sketch.quantile(0.5), sketch.quantile(0.9), sketch.quantile(0.99));
+        }
+    }
+}
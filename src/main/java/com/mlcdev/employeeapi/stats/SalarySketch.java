@@ -0,0 +1,90 @@
+package com.mlcdev.employeeapi.stats;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Log-bucketed quantile sketch. A value {@code v} goes to bucket {@code ceil(log(v) / log(gamma))},
+ * so every bucket spans a fixed relative width and any quantile is returned within
+ * {@link #RELATIVE_ACCURACY} of a real value. Buckets only hold counts, which makes sketches
+ * mergeable and lets a value be removed again when an employee changes or leaves.
+ * <p>
+ * Not thread-safe; {@link EmployeeStatistics} guards it.
+ */
+public class SalarySketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int ZERO_BUCKET = Integer.MIN_VALUE;
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long count;
+
+    public void add(BigDecimal value) {
+        buckets.merge(bucketOf(value), 1L, Long::sum);
+        count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code value}. Values that were never added are ignored.
+     */
+    public void remove(BigDecimal value) {
+        int bucket = bucketOf(value);
+        Long bucketCount = buckets.get(bucket);
+        if (bucketCount == null) {
+            return;
+        }
+        if (bucketCount == 1) {
+            buckets.remove(bucket);
+        } else {
+            buckets.put(bucket, bucketCount - 1);
+        }
+        count--;
+    }
+
+    public void merge(SalarySketch other) {
+        other.buckets.forEach((bucket, bucketCount) -> buckets.merge(bucket, bucketCount, Long::sum));
+        count += other.count;
+    }
+
+    /**
+     * Returns the estimated {@code q} quantile (0..1), or null when the sketch is empty.
+     */
+    public BigDecimal quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : buckets.entrySet()) {
+            seen += entry.getValue();
+            if (seen > rank) {
+                return valueOf(entry.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private static int bucketOf(BigDecimal value) {
+        double v = value.doubleValue();
+        if (v <= 0) {
+            return ZERO_BUCKET;
+        }
+        return (int) Math.ceil(Math.log(v) / LOG_GAMMA);
+    }
+
+    private static BigDecimal valueOf(int bucket) {
+        if (bucket == ZERO_BUCKET) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        double estimate = 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+        return BigDecimal.valueOf(estimate).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,16 @@
+CREATE DATABASE IF NOT EXISTS EmployeeAPI;
+USE EmployeeAPI;
+
+-- The secondary indexes back the GET /employee filters. InnoDB appends the primary key to every
+-- secondary index, so each one also carries "id" for the ORDER BY id / id > ? pagination.
+CREATE TABLE IF NOT EXISTS employee (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  name VARCHAR(255) NOT NULL,
+  salary DECIMAL(19,2) NOT NULL,
+  role VARCHAR(50) NOT NULL,
+  hiring_date DATE NOT NULL,
+  INDEX idx_employee_role_hiring_date (role, hiring_date),
+  INDEX idx_employee_role_salary (role, salary),
+  INDEX idx_employee_hiring_date (hiring_date),
+  INDEX idx_employee_salary (salary)
+);
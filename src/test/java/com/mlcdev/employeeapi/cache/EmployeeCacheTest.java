@@ -0,0 +1,74 @@
+package com.mlcdev.employeeapi.cache;
+
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+class EmployeeCacheTest {
+
+    private Employee getBaseEmployee(Long id) {
+        return new Employee(id, "name", new BigDecimal("1.00"), LocalDate.of(2000, 1, 1), Role.INTERN);
+    }
+
+    @Test
+    void getShouldReturnTheCachedEmployeeAndCountHitsAndMisses() {
+        EmployeeCache cache = new EmployeeCache(10, 0);
+        Assertions.assertEquals(Optional.empty(), cache.get(1L));
+        cache.putIfFresh(1L, getBaseEmployee(1L), cache.generation());
+
+        Assertions.assertEquals(1L, cache.get(1L).get().getId());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void putShouldEvictTheLeastRecentlyUsedEmployeeWhenFull() {
+        EmployeeCache cache = new EmployeeCache(2, 0);
+        cache.putIfFresh(1L, getBaseEmployee(1L), cache.generation());
+        cache.putIfFresh(2L, getBaseEmployee(2L), cache.generation());
+        cache.get(1L);
+        cache.putIfFresh(3L, getBaseEmployee(3L), cache.generation());
+
+        Assertions.assertTrue(cache.get(1L).isPresent());
+        Assertions.assertTrue(cache.get(2L).isEmpty());
+        Assertions.assertTrue(cache.get(3L).isPresent());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void stripedCacheShouldStayWithinMaxSize() {
+        EmployeeCache cache = new EmployeeCache(1000, 0);
+        for (long id = 1; id <= 5000; id++) {
+            cache.putIfFresh(id, getBaseEmployee(id), cache.generation());
+        }
+
+        Assertions.assertEquals(1000, cache.size());
+        Assertions.assertEquals(4000, cache.getEvictionCount());
+        Assertions.assertTrue(cache.get(5000L).isPresent());
+        Assertions.assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void putIfFreshShouldDiscardValuesLoadedBeforeAnInvalidation() {
+        EmployeeCache cache = new EmployeeCache(10, 0);
+        long loadGeneration = cache.generation();
+        cache.invalidate(1L);
+        cache.putIfFresh(1L, getBaseEmployee(1L), loadGeneration);
+
+        Assertions.assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void disabledCacheShouldNeverStoreEmployees() {
+        EmployeeCache cache = new EmployeeCache(0, 0);
+        cache.putIfFresh(1L, getBaseEmployee(1L), cache.generation());
+
+        Assertions.assertFalse(cache.isEnabled());
+        Assertions.assertTrue(cache.get(1L).isEmpty());
+    }
+}
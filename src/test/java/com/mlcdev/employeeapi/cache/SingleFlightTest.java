@@ -0,0 +1,128 @@
+package com.mlcdev.employeeapi.cache;
+
+import com.mlcdev.employeeapi.exception.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    /**
+     * Starts {@link #CALLERS} concurrent calls. The first loader blocks until every other caller
+     * has joined its flight, so all of them must share that one load.
+     */
+    private List<Future<String>> runConcurrently(ExecutorService executor, SingleFlight<Long, String> flight,
+                                                 AtomicInteger loads, RuntimeException failure) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> flight.execute(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            if (failure != null) {
+                throw failure;
+            }
+            return "employee";
+        })));
+        while (loads.get() == 0) {
+            Thread.onSpinWait();
+        }
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "second load";
+            })));
+        }
+        while (flight.getSharedCount() < CALLERS - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void concurrentCallersShouldShareOneLoad() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            SingleFlight<Long, String> flight = new SingleFlight<>();
+            AtomicInteger loads = new AtomicInteger();
+
+            for (Future<String> result : runConcurrently(executor, flight, loads, null)) {
+                Assertions.assertEquals("employee", result.get(5, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(1, loads.get());
+            Assertions.assertEquals(CALLERS - 1, flight.getSharedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void everyWaiterShouldReceiveTheSameException() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            SingleFlight<Long, String> flight = new SingleFlight<>();
+            NotFoundException failure = new NotFoundException("The employee does not exist");
+
+            for (Future<String> result : runConcurrently(executor, flight, new AtomicInteger(), failure)) {
+                ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                        () -> result.get(5, TimeUnit.SECONDS));
+                Assertions.assertSame(failure, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void finishedLoadsShouldNotBeReused() {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute(1L, () -> "v" + loads.incrementAndGet());
+        String second = flight.execute(1L, () -> "v" + loads.incrementAndGet());
+
+        Assertions.assertEquals("v2", second);
+        Assertions.assertEquals(0, flight.getSharedCount());
+    }
+
+    @Test
+    void forgetShouldLetTheNextCallerStartAFreshLoad() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowReader = new Thread(() -> flight.execute(1L, () -> {
+            started.countDown();
+            await(release);
+            return "before the write";
+        }));
+        slowReader.start();
+        started.await(5, TimeUnit.SECONDS);
+
+        flight.forget(1L);
+        String afterWrite = flight.execute(1L, () -> "after the write");
+
+        release.countDown();
+        slowReader.join(5000);
+        Assertions.assertEquals("after the write", afterWrite);
+        Assertions.assertEquals(0, flight.getSharedCount());
+    }
+}
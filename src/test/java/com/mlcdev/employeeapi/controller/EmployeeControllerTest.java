@@ -3,12 +3,38 @@ package com.mlcdev.employeeapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mlcdev.employeeapi.config.ObjectMapperConfig;
+import com.mlcdev.employeeapi.dto.BulkRaiseDTO;
+import com.mlcdev.employeeapi.dto.Cursor;
+import com.mlcdev.employeeapi.dto.EmployeeBatchDTO;
 import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.dto.EmployeeStatsDTO;
+import com.mlcdev.employeeapi.dto.ImportReportDTO;
+import com.mlcdev.employeeapi.dto.JobDTO;
+import com.mlcdev.employeeapi.dto.PageDTO;
+import com.mlcdev.employeeapi.dto.RecordErrorDTO;
+import com.mlcdev.employeeapi.dto.SalaryStatsDTO;
+import com.mlcdev.employeeapi.exception.DBConnectionException;
 import com.mlcdev.employeeapi.exception.InvalidParamException;
+import com.mlcdev.employeeapi.exception.ServiceUnavailableException;
+import com.mlcdev.employeeapi.importer.EmployeeRecordReader;
+import com.mlcdev.employeeapi.importer.ImportFormat;
+import com.mlcdev.employeeapi.limit.AdaptiveConcurrencyLimiter;
+import com.mlcdev.employeeapi.model.EmployeeField;
 import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.EmployeeFilter;
+import com.mlcdev.employeeapi.repository.RowHandler;
+import com.mlcdev.employeeapi.search.NameSearchIndex;
 import com.mlcdev.employeeapi.service.EmployeeService;
+import com.mlcdev.employeeapi.stats.EmployeeCounter;
+import com.mlcdev.employeeapi.stats.EmployeeStatistics;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Assertions;
@@ -16,6 +42,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -23,10 +50,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.*;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,19 +86,67 @@ public class EmployeeControllerTest {
     @Mock
     private ServletContext servletContext;
 
-    private StringWriter responseWriter;
+    private ByteArrayOutputStream responseOutput;
 
     @BeforeEach
     void setUp() throws Exception{
         controller = new EmployeeController();
-        responseWriter = new StringWriter();
-        PrintWriter printWriter = new PrintWriter(responseWriter);
-        lenient().when(response.getWriter()).thenReturn(printWriter);
+        responseOutput = mockOutputStream();
+        lenient().when(request.getParameter(anyString())).thenReturn(null);
         when(servletConfig.getServletContext()).thenReturn(servletContext);
+        lenient().when(servletContext.getAttribute(anyString())).thenReturn(null);
         when(servletContext.getAttribute("EmployeeService")).thenReturn(service);
         when(servletContext.getAttribute("ObjectMapper")).thenReturn(ObjectMapperConfig.getMapper());
         controller.init(servletConfig);
     }
+    private ByteArrayOutputStream mockOutputStream() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        lenient().when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        });
+        return output;
+    }
+
+    private String responseBody() {
+        return responseOutput.toString(StandardCharsets.UTF_8);
+    }
+
+    private void mockInputStream(String body) throws IOException {
+        ByteArrayInputStream input = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        when(request.getInputStream()).thenReturn(new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+            }
+
+            @Override
+            public int read() {
+                return input.read();
+            }
+        });
+    }
+
     private EmployeeDTO getBaseDTO(){
         return new EmployeeDTO(1L, "name", new BigDecimal("1.00"), LocalDate.of(2000, 1, 1), Role.INTERN.name());
     }
@@ -79,7 +163,8 @@ public class EmployeeControllerTest {
             when(service.findById(1L)).thenReturn(dto);
             controller.doGet(request, response);
             verify(response).setStatus(HttpServletResponse.SC_OK);
-            Assertions.assertEquals(expectedJson, responseWriter.toString());
+            Assertions.assertEquals(expectedJson, responseBody());
+            verify(response, never()).getWriter();
         }
 
         @Test
@@ -94,7 +179,182 @@ public class EmployeeControllerTest {
             when(service.findAll(EmployeeController.getDefaultPage(),EmployeeController.getDefaultSize())).thenReturn(expectedList);
             controller.doGet(request, response);
             verify(response).setStatus(HttpServletResponse.SC_OK);
-            Assertions.assertEquals(expectedJson, responseWriter.toString());
+            Assertions.assertEquals(expectedJson, responseBody());
+        }
+
+        @Test
+        void doGetShouldReturnTheRequestedIdsWhenIdsIsPresent() throws Exception{
+            EmployeeBatchDTO batch = new EmployeeBatchDTO(List.of(getBaseDTO()), List.of(7L));
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("ids")).thenReturn("1, 7,");
+            when(service.findByIds(List.of(1L, 7L))).thenReturn(batch);
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(batch), responseBody());
+        }
+
+        @Test
+        void doGetShouldPassTheFilterParamsToTheService() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            ObjectMapper mapper = ObjectMapperConfig.getMapper();
+            EmployeeFilter expectedFilter = new EmployeeFilter(Role.SENIOR, new BigDecimal("1000"), null, LocalDate.of(2020, 1, 1), null);
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("role")).thenReturn("SENIOR");
+            when(request.getParameter("minSalary")).thenReturn("1000");
+            when(request.getParameter("hiredFrom")).thenReturn("2020-01-01");
+            when(service.findAll(EmployeeController.getDefaultPage(), EmployeeController.getDefaultSize(), EmployeeField.ALL, expectedFilter)).thenReturn(List.of(dto));
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(mapper.writeValueAsString(List.of(dto)), responseBody());
+        }
+
+        @Test
+        void doGetStatsShouldReturnTheStatisticsSnapshot() throws Exception{
+            EmployeeStatistics statistics = mock(EmployeeStatistics.class);
+            EmployeeStatsDTO stats = new EmployeeStatsDTO(new SalaryStatsDTO(1, new BigDecimal("1.00"), new BigDecimal("1.00"), null, null, null), Map.of(), null);
+            when(servletContext.getAttribute("EmployeeStatistics")).thenReturn(statistics);
+            controller.init(servletConfig);
+            when(request.getPathInfo()).thenReturn("/stats");
+            when(statistics.snapshot()).thenReturn(stats);
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(stats), responseBody());
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        void doGetSearchShouldReturnTheMatchesFromTheIndex() throws Exception{
+            NameSearchIndex searchIndex = new NameSearchIndex();
+            searchIndex.index(1L, "name");
+            when(servletContext.getAttribute("NameSearchIndex")).thenReturn(searchIndex);
+            controller.init(servletConfig);
+            when(request.getPathInfo()).thenReturn("/search");
+            when(request.getParameter("q")).thenReturn("na");
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals("[{\"id\":1,\"name\":\"name\"}]", responseBody());
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        void doGetShouldWrapThePageInAnEnvelopeWhenRequested() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            EmployeeDTO dto2 = getBaseDTO();
+            dto2.setId(2L);
+            EmployeeCounter counter = mock(EmployeeCounter.class);
+            when(servletContext.getAttribute("EmployeeCounter")).thenReturn(counter);
+            controller.init(servletConfig);
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("envelope")).thenReturn("true");
+            when(request.getParameter("size")).thenReturn("2");
+            when(service.findAll(EmployeeController.getDefaultPage(), 2)).thenReturn(List.of(dto, dto2));
+            when(counter.count(EmployeeFilter.NONE)).thenReturn(5L);
+            PageDTO<EmployeeDTO> expectedPage = new PageDTO<>(List.of(dto, dto2), 2, Cursor.encode(2L));
+            expectedPage.setPage(1);
+            expectedPage.setTotal(5L);
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(expectedPage), responseBody());
+            Assertions.assertTrue(responseBody().contains("\"page\":1,\"size\":2,\"total\":5"));
+        }
+
+        @Test
+        void doGetShouldReturnACursorPageJsonWhenAfterIsPresent() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            ObjectMapper mapper = ObjectMapperConfig.getMapper();
+            PageDTO<EmployeeDTO> expectedPage = new PageDTO<>(List.of(dto), 1, Cursor.encode(1L));
+            String expectedJson = mapper.writeValueAsString(expectedPage);
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("after")).thenReturn(Cursor.encode(0L));
+            when(request.getParameter("size")).thenReturn("1");
+            when(service.findAllAfter(0L, 1)).thenReturn(expectedPage);
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(expectedJson, responseBody());
+        }
+
+        @Test
+        void doGetExportShouldStreamAJsonArray() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            EmployeeDTO dto2 = getBaseDTO();
+            dto2.setId(2L);
+            ObjectMapper mapper = ObjectMapperConfig.getMapper();
+            String expectedJson = mapper.writeValueAsString(List.of(dto, dto2));
+            ByteArrayOutputStream output = mockOutputStream();
+            when(request.getPathInfo()).thenReturn("/export");
+            doAnswer(invocation -> {
+                RowHandler<EmployeeDTO> handler = invocation.getArgument(0);
+                handler.handle(dto);
+                handler.handle(dto2);
+                return null;
+            }).when(service).exportAll(any());
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(expectedJson, output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void doGetExportShouldStreamNdjsonWhenRequested() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            EmployeeDTO dto2 = getBaseDTO();
+            dto2.setId(2L);
+            ObjectMapper mapper = ObjectMapperConfig.getMapper();
+            String expected = mapper.writeValueAsString(dto) + "\n" + mapper.writeValueAsString(dto2);
+            ByteArrayOutputStream output = mockOutputStream();
+            when(request.getPathInfo()).thenReturn("/export");
+            when(request.getParameter("format")).thenReturn("ndjson");
+            doAnswer(invocation -> {
+                RowHandler<EmployeeDTO> handler = invocation.getArgument(0);
+                handler.handle(dto);
+                handler.handle(dto2);
+                return null;
+            }).when(service).exportAll(any());
+            controller.doGet(request, response);
+            verify(response).setContentType("application/x-ndjson");
+            Assertions.assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void doGetShouldOnlySerializeTheRequestedFields() throws Exception{
+            EmployeeDTO dto = new EmployeeDTO(1L, "name", null, null, null);
+            when(request.getPathInfo()).thenReturn("/1");
+            when(request.getParameter("fields")).thenReturn("name");
+            when(service.findById(1L, EnumSet.of(EmployeeField.ID, EmployeeField.NAME))).thenReturn(dto);
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals("{\"id\":1,\"name\":\"name\"}", responseBody());
+        }
+
+        @Test
+        void doGetShouldReturnNotModifiedWhenTheETagMatches() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            when(request.getPathInfo()).thenReturn("/1");
+            when(service.findById(1L)).thenReturn(dto);
+            controller.doGet(request, response);
+            ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+            verify(response).setHeader(eq("ETag"), etag.capture());
+
+            when(request.getHeader("If-None-Match")).thenReturn(etag.getValue());
+            controller.doGet(request, response);
+
+            verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(dto), responseBody());
+        }
+
+        @Test
+        void doGetShouldChangeTheETagWhenTheEmployeeChanges() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            EmployeeDTO changed = getBaseDTO();
+            changed.setSalary(new BigDecimal("2.00"));
+            when(request.getPathInfo()).thenReturn("/1");
+            when(service.findById(1L)).thenReturn(dto, changed);
+            ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+
+            controller.doGet(request, response);
+            controller.doGet(request, response);
+
+            verify(response, times(2)).setHeader(eq("ETag"), etag.capture());
+            Assertions.assertNotEquals(etag.getAllValues().get(0), etag.getAllValues().get(1));
         }
 
         @Test
@@ -103,12 +363,108 @@ public class EmployeeControllerTest {
             ObjectMapper mapper = ObjectMapperConfig.getMapper();
             String expectedJson = mapper.writeValueAsString(dto);
             String jsonInput = expectedJson;
-            BufferedReader reader = new BufferedReader(new StringReader(jsonInput));
-            when(request.getReader()).thenReturn(reader);
+            mockInputStream(jsonInput);
             when(service.add(dto)).thenReturn(dto);
             controller.doPost(request, response);
             verify(response).setStatus(HttpServletResponse.SC_CREATED);
-            Assertions.assertEquals(expectedJson, responseWriter.toString());
+            Assertions.assertEquals(expectedJson, responseBody());
+        }
+
+        @Test
+        void doPostBatchShouldReturnAListOfEmployeeJson() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            EmployeeDTO dto2 = getBaseDTO();
+            dto2.setId(2L);
+            ObjectMapper mapper = ObjectMapperConfig.getMapper();
+            List<EmployeeDTO> expectedList = List.of(dto, dto2);
+            String expectedJson = mapper.writeValueAsString(expectedList);
+            mockInputStream(expectedJson);
+            when(request.getPathInfo()).thenReturn("/batch");
+            when(service.addAll(expectedList)).thenReturn(expectedList);
+            controller.doPost(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_CREATED);
+            Assertions.assertEquals(expectedJson, responseBody());
+        }
+
+        @Test
+        void doPostBulkRaiseShouldAcceptTheJobAndPointToItsStatus() throws Exception{
+            JobDTO job = new JobDTO(7L, "raise", "PENDING", null, 0, 0, null, null, null);
+            mockInputStream("{\"percent\":10,\"role\":\"JUNIOR\"}");
+            when(request.getPathInfo()).thenReturn("/bulk/raise");
+            when(request.getContextPath()).thenReturn("/api");
+            when(request.getServletPath()).thenReturn("/employee");
+            ArgumentCaptor<BulkRaiseDTO> captor = ArgumentCaptor.forClass(BulkRaiseDTO.class);
+            when(service.raiseSalaries(captor.capture())).thenReturn(job);
+            controller.doPost(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_ACCEPTED);
+            verify(response).setHeader("Location", "/api/employee/jobs/7");
+            Assertions.assertEquals(0, new BigDecimal("10").compareTo(captor.getValue().getPercent()));
+            Assertions.assertEquals("JUNIOR", captor.getValue().getRole());
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(job), responseBody());
+        }
+
+        @Test
+        void doPostImportShouldStreamTheBodyAndReturnTheReport() throws Exception{
+            ImportReportDTO report = new ImportReportDTO(2, 1, 1, List.of(new RecordErrorDTO(3, "The name can't be blank")));
+            when(request.getPathInfo()).thenReturn("/import");
+            when(request.getContentType()).thenReturn("text/csv");
+            mockInputStream("name,salary,hiringDate,role\na,1,2020-01-01,INTERN\n,1,2020-01-01,INTERN\n");
+            when(service.importEmployees(any(EmployeeRecordReader.class))).thenAnswer(invocation -> {
+                EmployeeRecordReader reader = invocation.getArgument(0);
+                Assertions.assertEquals("a", reader.next().employee().getName());
+                return report;
+            });
+            controller.doPost(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(report), responseBody());
+        }
+
+        @Test
+        void doPostImportShouldSpoolTheBodyAndStartAJobWhenAsyncIsRequested() throws Exception{
+            JobDTO job = new JobDTO(3L, "import", "PENDING", null, 0, 0, null, null, null);
+            String body = "{\"name\":\"a\"}\n";
+            when(request.getPathInfo()).thenReturn("/import");
+            when(request.getContentType()).thenReturn("application/x-ndjson");
+            when(request.getParameter("async")).thenReturn("true");
+            when(request.getContextPath()).thenReturn("");
+            when(request.getServletPath()).thenReturn("/employee");
+            mockInputStream(body);
+            ArgumentCaptor<Path> file = ArgumentCaptor.forClass(Path.class);
+            when(service.importInBackground(file.capture(), eq(ImportFormat.NDJSON), eq(StandardCharsets.UTF_8))).thenReturn(job);
+            controller.doPost(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_ACCEPTED);
+            verify(response).setHeader("Location", "/employee/jobs/3");
+            Assertions.assertEquals(body, Files.readString(file.getValue()));
+            Files.delete(file.getValue());
+        }
+
+        @Test
+        void doPostImportShouldStartAJobWhenTheBodyLengthIsUnknown() throws Exception{
+            JobDTO job = new JobDTO(4L, "import", "PENDING", null, 0, 0, null, null, null);
+            String body = "name,salary,hiringDate,role\na,10.00,2020-01-01,INTERN\n";
+            when(request.getPathInfo()).thenReturn("/import");
+            when(request.getContentType()).thenReturn("text/csv");
+            when(request.getContentLengthLong()).thenReturn(-1L);
+            when(request.getContextPath()).thenReturn("");
+            when(request.getServletPath()).thenReturn("/employee");
+            mockInputStream(body);
+            ArgumentCaptor<Path> file = ArgumentCaptor.forClass(Path.class);
+            when(service.importInBackground(file.capture(), eq(ImportFormat.CSV), eq(StandardCharsets.UTF_8))).thenReturn(job);
+            controller.doPost(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_ACCEPTED);
+            verify(service, never()).importEmployees(any());
+            Assertions.assertEquals(body, Files.readString(file.getValue()));
+            Files.delete(file.getValue());
+        }
+
+        @Test
+        void doGetJobShouldReturnTheJobStatus() throws Exception{
+            JobDTO job = new JobDTO(7L, "delete", "RUNNING", 10L, 4, 4, null, null, null);
+            when(request.getPathInfo()).thenReturn("/jobs/7");
+            when(service.findJob(7L)).thenReturn(job);
+            controller.doGet(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(ObjectMapperConfig.getMapper().writeValueAsString(job), responseBody());
         }
 
         @Test
@@ -118,22 +474,45 @@ public class EmployeeControllerTest {
             ObjectMapper mapper = ObjectMapperConfig.getMapper();
             String expectedJson = mapper.writeValueAsString(dto);
             String inputJson = expectedJson;
-            BufferedReader reader = new BufferedReader(new StringReader(inputJson));
-            when(request.getReader()).thenReturn(reader);
+            mockInputStream(inputJson);
             when(request.getPathInfo()).thenReturn("/1");
             when(service.update(any(EmployeeDTO.class))).thenReturn(dto);
             controller.doPut(request,response);
             verify(response).setStatus(HttpServletResponse.SC_OK);
-            Assertions.assertEquals(responseWriter.toString(), expectedJson);
+            Assertions.assertEquals(responseBody(), expectedJson);
 
         }
 
+        @Test
+        void doPatchShouldReturnThePatchedEmployeeJson() throws Exception{
+            EmployeeDTO dto = getBaseDTO();
+            dto.setName("newName");
+            String expectedJson = ObjectMapperConfig.getMapper().writeValueAsString(dto);
+            mockInputStream("{\"name\":\"newName\"}");
+            when(request.getPathInfo()).thenReturn("/1");
+            when(service.patch(eq(1L), any(EmployeeDTO.class))).thenReturn(dto);
+            controller.doPatch(request, response);
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(expectedJson, responseBody());
+        }
+
+        @Test
+        void doPatchShouldReturnNoContentWhenMinimalReturnIsPreferred() throws Exception{
+            mockInputStream("{\"salary\":10.00}");
+            when(request.getPathInfo()).thenReturn("/1");
+            when(request.getHeader("Prefer")).thenReturn("return=minimal");
+            controller.doPatch(request, response);
+            verify(service).patchWithoutResult(eq(1L), any(EmployeeDTO.class));
+            verify(response).setStatus(HttpServletResponse.SC_NO_CONTENT);
+            Assertions.assertEquals("", responseBody());
+        }
+
         @Test
         void doDeleteShouldReturnEmptyJson(){
             when(request.getPathInfo()).thenReturn("/1");
             controller.doDelete(request, response);
             verify(response).setStatus(HttpServletResponse.SC_NO_CONTENT);
-            Assertions.assertEquals("", responseWriter.toString());
+            Assertions.assertEquals("", responseBody());
         }
 
     }
@@ -148,6 +527,99 @@ public class EmployeeControllerTest {
             });
         }
 
+        @Test
+        void doPostImportShouldThrowInvalidParamExceptionWhenTheContentTypeIsNotSupported(){
+            when(request.getPathInfo()).thenReturn("/import");
+            when(request.getContentType()).thenReturn("application/json");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doPost(request, response);
+            });
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        void serviceShouldRejectRequestsOverTheConcurrencyLimitWithoutCallingTheService() throws Exception{
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1000, 0.9, 2);
+            when(servletContext.getAttribute("ConcurrencyLimiter")).thenReturn(limiter);
+            controller.init(servletConfig);
+            when(request.getPathInfo()).thenReturn("/1");
+            limiter.acquire();
+
+            Assertions.assertThrows(ServiceUnavailableException.class, () -> {
+                controller.service(request, response);
+            });
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        void serviceShouldNotLimitBatchInserts() throws Exception{
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1000, 0.9, 2);
+            when(servletContext.getAttribute("ConcurrencyLimiter")).thenReturn(limiter);
+            controller.init(servletConfig);
+            when(request.getMethod()).thenReturn("POST");
+            when(request.getPathInfo()).thenReturn("/batch");
+            mockInputStream("[]");
+            when(service.addAll(List.of())).thenReturn(List.of());
+            limiter.acquire();
+
+            controller.service(request, response);
+
+            verify(service).addAll(List.of());
+            Assertions.assertEquals(1, limiter.getInFlight());
+        }
+
+        @Test
+        void serviceShouldReleaseTheSlotWhenTheRequestFails() throws Exception{
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, 60000, 0.5, 2);
+            when(servletContext.getAttribute("ConcurrencyLimiter")).thenReturn(limiter);
+            controller.init(servletConfig);
+            when(request.getMethod()).thenReturn("GET");
+            when(request.getPathInfo()).thenReturn("/1");
+            when(service.findById(1L)).thenThrow(new DBConnectionException("Pool exhausted"));
+
+            Assertions.assertThrows(DBConnectionException.class, () -> {
+                controller.service(request, response);
+            });
+            Assertions.assertEquals(0, limiter.getInFlight());
+            Assertions.assertEquals(2, limiter.getLimit());
+        }
+
+        @Test
+        void doGetJobShouldThrowInvalidParamExceptionWhenTheIdIsNotALong(){
+            when(request.getPathInfo()).thenReturn("/jobs/abc");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
+        @Test
+        void doGetShouldThrowInvalidParamExceptionWhenTheRoleIsInvalid(){
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("role")).thenReturn("CEO");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
+        @Test
+        void doGetShouldThrowInvalidParamExceptionWhenHiredFromIsNotADate(){
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("hiredFrom")).thenReturn("01/01/2020");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
+        @Test
+        void doGetSearchShouldThrowInvalidParamExceptionWhenTheQueryIsMissing() throws Exception{
+            when(servletContext.getAttribute("NameSearchIndex")).thenReturn(new NameSearchIndex());
+            controller.init(servletConfig);
+            when(request.getPathInfo()).thenReturn("/search");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
         @Test
         void doGetShouldThrowInvalidParamExceptionWhenPageIsNotAInteger(){
             when(request.getPathInfo()).thenReturn(null);
@@ -168,6 +640,43 @@ public class EmployeeControllerTest {
             });
         }
 
+        @Test
+        void doGetShouldThrowInvalidParamExceptionWhenAFieldIsUnknown(){
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("fields")).thenReturn("id,password");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
+        @Test
+        void doGetShouldThrowInvalidParamExceptionWhenAnIdInIdsIsNotALong(){
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("ids")).thenReturn("1,two");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
+        @Test
+        void doGetShouldThrowInvalidParamExceptionWhenTheCursorIsInvalid(){
+            when(request.getPathInfo()).thenReturn(null);
+            when(request.getParameter("after")).thenReturn("not-a-cursor");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doGet(request, response);
+            });
+        }
+
+        @Test
+        void doPatchShouldThrowInvalidParamExceptionWhenAFieldIsNull() throws Exception{
+            mockInputStream("{\"name\":null}");
+            when(request.getPathInfo()).thenReturn("/1");
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                controller.doPatch(request, response);
+            });
+            verifyNoInteractions(service);
+        }
+
         @Test
         void doDeleteShouldThrowInvalidParamExceptionWhenTheIdIsNotALong(){
             when(request.getPathInfo()).thenReturn("/string");
@@ -177,6 +686,81 @@ public class EmployeeControllerTest {
         }
     }
 
+    @Nested
+    class AsyncMode{
+
+        @Mock
+        private AsyncContext asyncContext;
+
+        @Test
+        void serviceShouldRunTheRequestOnTheExecutorAndCompleteTheAsyncContext() throws Exception {
+            EmployeeDTO dto = getBaseDTO();
+            String expectedJson = ObjectMapperConfig.getMapper().writeValueAsString(dto);
+            AsyncRequestExecutor asyncExecutor = new AsyncRequestExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1, 1000);
+            when(servletContext.getAttribute("AsyncRequestExecutor")).thenReturn(asyncExecutor);
+            controller.init(servletConfig);
+            when(request.isAsyncSupported()).thenReturn(true);
+            when(request.startAsync(request, response)).thenReturn(asyncContext);
+            when(request.getMethod()).thenReturn("GET");
+            when(request.getPathInfo()).thenReturn("/1");
+            when(service.findById(1L)).thenReturn(dto);
+
+            controller.service(request, response);
+
+            verify(asyncContext, timeout(1000)).complete();
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertEquals(expectedJson, responseBody());
+            asyncExecutor.close();
+        }
+
+        @Test
+        void aTimedOutRequestShouldAnswer503AndDropTheLateWrites() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            AsyncRequestExecutor asyncExecutor = new AsyncRequestExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1, 1000);
+            when(servletContext.getAttribute("AsyncRequestExecutor")).thenReturn(asyncExecutor);
+            controller.init(servletConfig);
+            when(request.isAsyncSupported()).thenReturn(true);
+            when(request.startAsync(request, response)).thenReturn(asyncContext);
+            when(request.getMethod()).thenReturn("GET");
+            when(request.getPathInfo()).thenReturn("/1");
+            when(service.findById(1L)).thenAnswer(invocation -> {
+                release.await();
+                return getBaseDTO();
+            });
+            ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+
+            controller.service(request, response);
+            verify(asyncContext).addListener(listener.capture());
+            verify(service, timeout(1000)).findById(1L);
+            listener.getValue().onTimeout(null);
+            release.countDown();
+
+            verify(asyncContext, timeout(1000)).complete();
+            asyncExecutor.close();
+            verify(asyncContext, times(1)).complete();
+            verify(response).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            verify(response, never()).setStatus(HttpServletResponse.SC_OK);
+            Assertions.assertTrue(responseBody().contains("\"status\":503"), responseBody());
+        }
+
+        @Test
+        void serviceShouldMapExceptionsOnTheAsyncPath() throws Exception {
+            AsyncRequestExecutor asyncExecutor = new AsyncRequestExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1, 1000);
+            when(servletContext.getAttribute("AsyncRequestExecutor")).thenReturn(asyncExecutor);
+            controller.init(servletConfig);
+            when(request.isAsyncSupported()).thenReturn(true);
+            when(request.startAsync(request, response)).thenReturn(asyncContext);
+            when(request.getMethod()).thenReturn("GET");
+            when(request.getPathInfo()).thenReturn("/string");
+
+            controller.service(request, response);
+
+            verify(asyncContext, timeout(1000)).complete();
+            verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            asyncExecutor.close();
+        }
+    }
+
     @Nested
     class DefaultPagination{
         @Test
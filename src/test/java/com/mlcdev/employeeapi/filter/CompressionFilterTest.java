@@ -0,0 +1,199 @@
+package com.mlcdev.employeeapi.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompressionFilterTest {
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private FilterConfig filterConfig;
+
+    private CompressionFilter filter;
+
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        filter = new CompressionFilter();
+        filter.init(filterConfig);
+        output = new ByteArrayOutputStream();
+        lenient().when(response.getCharacterEncoding()).thenReturn("UTF-8");
+        lenient().when(response.getHeader(anyString())).thenReturn(null);
+        lenient().when(response.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+        lenient().when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        });
+    }
+
+    private FilterChain writing(String body) {
+        return (req, resp) -> resp.getWriter().write(body);
+    }
+
+    private String decode(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void largeBodiesShouldBeGzippedWhenTheClientAcceptsIt() throws Exception {
+        String body = "{\"name\":\"name\"},".repeat(500);
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate, br");
+        when(response.getHeader("ETag")).thenReturn("\"abc\"");
+
+        filter.doFilter(request, response, writing(body));
+
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).setHeader("ETag", "W/\"abc\"");
+        verify(response).addHeader("Vary", "Accept-Encoding");
+        Assertions.assertTrue(output.size() < body.length() / 10);
+        Assertions.assertEquals(body, decode(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))));
+    }
+
+    @Test
+    void deflateShouldBeUsedWhenItIsPreferred() throws Exception {
+        String body = "x".repeat(5000);
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip;q=0.5, deflate");
+
+        filter.doFilter(request, response, writing(body));
+
+        verify(response).setHeader("Content-Encoding", "deflate");
+        Assertions.assertEquals(body, decode(new InflaterInputStream(new ByteArrayInputStream(output.toByteArray()))));
+    }
+
+    @Test
+    void smallBodiesShouldBeSentUncompressed() throws Exception {
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+
+        filter.doFilter(request, response, writing("{\"id\":1}"));
+
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        verify(response).setContentLength(8);
+        Assertions.assertEquals("{\"id\":1}", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void errorBodiesShouldNotBeCompressed() throws Exception {
+        String body = "e".repeat(5000);
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        when(response.getStatus()).thenReturn(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+
+        filter.doFilter(request, response, writing(body));
+
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        Assertions.assertEquals(body, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void aFailureAfterCompressionStartedShouldResetTheUncommittedResponse() throws Exception {
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        FilterChain failing = (req, resp) -> {
+            resp.getWriter().write("x".repeat(5000));
+            resp.getWriter().flush();
+            throw new IllegalStateException("boom");
+        };
+
+        Assertions.assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, failing));
+
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).reset();
+    }
+
+    @Test
+    void aResetAfterCompressionStartedShouldSendTheNextBodyPlain() throws Exception {
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        doAnswer(invocation -> {
+            output.reset();
+            when(response.getStatus()).thenReturn(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return null;
+        }).when(response).reset();
+        String error = "{\"status\":503}" + " ".repeat(2000);
+        FilterChain chain = (req, resp) -> {
+            resp.getOutputStream().write("z".repeat(5000).getBytes(StandardCharsets.UTF_8));
+            Assertions.assertThrows(IllegalStateException.class, resp::resetBuffer);
+            resp.reset();
+            resp.getOutputStream().write(error.getBytes(StandardCharsets.UTF_8));
+        };
+
+        filter.doFilter(request, response, chain);
+
+        verify(response, times(1)).setHeader("Content-Encoding", "gzip");
+        Assertions.assertEquals(error, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void contentLengthSetAfterPassThroughStartedShouldReachTheResponse() throws Exception {
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        when(response.getHeader("Content-Encoding")).thenReturn("identity");
+        FilterChain chain = (req, resp) -> {
+            ServletOutputStream out = resp.getOutputStream();
+            for (byte b : "y".repeat(2000).getBytes(StandardCharsets.UTF_8)) {
+                out.write(b);
+            }
+            resp.setContentLength(2000);
+        };
+
+        filter.doFilter(request, response, chain);
+
+        verify(response).setContentLengthLong(2000);
+        Assertions.assertEquals("y".repeat(2000), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void requestsWithoutAcceptEncodingShouldPassThrough() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verify(response, never()).addHeader(anyString(), anyString());
+    }
+
+    @Test
+    void negotiateShouldHonourQualityValues() {
+        Assertions.assertEquals("gzip", CompressionFilter.negotiate("deflate, gzip"));
+        Assertions.assertEquals("deflate", CompressionFilter.negotiate("gzip;q=0, deflate;q=0.1"));
+        Assertions.assertEquals("gzip", CompressionFilter.negotiate("*"));
+        Assertions.assertNull(CompressionFilter.negotiate("br, identity"));
+        Assertions.assertNull(CompressionFilter.negotiate(null));
+    }
+}
@@ -0,0 +1,140 @@
+package com.mlcdev.employeeapi.importer;
+
+import com.mlcdev.employeeapi.exception.InvalidParamException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+class EmployeeRecordReaderTest {
+
+    private List<ImportRecord> readAll(ImportFormat format, String body) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        try (EmployeeRecordReader reader = EmployeeRecordReader.open(format, new StringReader(body))) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Nested
+    class Csv {
+        @Test
+        void shouldMapColumnsByHeaderNameAndUnquoteFields() throws IOException {
+            String body = "id,role,name,hiringDate,salary\n"
+                    + "9,SENIOR,\"Smith, \"\"Jo\"\"\",2020-02-01,4500.50\n"
+                    + "\n"
+                    + ",JUNIOR,Ana,2021-03-04,3000\n";
+
+            List<ImportRecord> records = readAll(ImportFormat.CSV, body);
+
+            Assertions.assertEquals(2, records.size());
+            Assertions.assertEquals(2, records.get(0).line());
+            Assertions.assertEquals("Smith, \"Jo\"", records.get(0).employee().getName());
+            Assertions.assertEquals(new BigDecimal("4500.50"), records.get(0).employee().getSalary());
+            Assertions.assertEquals(LocalDate.of(2020, 2, 1), records.get(0).employee().getHiringDate());
+            Assertions.assertEquals("SENIOR", records.get(0).employee().getRole());
+            Assertions.assertNull(records.get(0).employee().getId());
+            Assertions.assertEquals(4, records.get(1).line());
+            Assertions.assertEquals("Ana", records.get(1).employee().getName());
+        }
+
+        @Test
+        void shouldReportMalformedLinesWithTheirLineNumber() throws IOException {
+            String body = "name,salary,hiring_date,role\n"
+                    + "a,abc,2020-01-01,INTERN\n"
+                    + "b,10,01/01/2020,INTERN\n"
+                    + "c,10,2020-01-01\n"
+                    + "\"d,10,2020-01-01,INTERN\n"
+                    + "e,,2020-01-01,INTERN\n";
+
+            List<ImportRecord> records = readAll(ImportFormat.CSV, body);
+
+            Assertions.assertEquals("The salary must be a decimal number", records.get(0).error());
+            Assertions.assertEquals(2, records.get(0).line());
+            Assertions.assertEquals("The hiring date must use the yyyy-MM-dd format", records.get(1).error());
+            Assertions.assertEquals("Expected 4 columns but found 3", records.get(2).error());
+            Assertions.assertEquals("Unterminated quoted field", records.get(3).error());
+            Assertions.assertNull(records.get(4).error());
+            Assertions.assertNull(records.get(4).employee().getSalary());
+        }
+
+        @Test
+        void shouldRejectAnOverLongLineAndKeepReading() throws IOException {
+            String body = "name,salary,hiringDate,role\r\n"
+                    + "a".repeat(EmployeeRecordReader.MAX_LINE_LENGTH + 1) + ",10,2020-01-01,INTERN\r\n"
+                    + "b,10,2020-01-01,INTERN";
+
+            List<ImportRecord> records = readAll(ImportFormat.CSV, body);
+
+            Assertions.assertEquals(2, records.size());
+            Assertions.assertEquals(2, records.get(0).line());
+            Assertions.assertEquals("The line is longer than " + EmployeeRecordReader.MAX_LINE_LENGTH + " characters",
+                    records.get(0).error());
+            Assertions.assertEquals(3, records.get(1).line());
+            Assertions.assertEquals("b", records.get(1).employee().getName());
+        }
+
+        @Test
+        void shouldRejectAnOverLongHeader() {
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                readAll(ImportFormat.CSV, "name,".repeat(EmployeeRecordReader.MAX_LINE_LENGTH));
+            });
+        }
+
+        @Test
+        void shouldRejectAHeaderWithoutTheRequiredColumns() {
+            Assertions.assertThrows(InvalidParamException.class, () -> {
+                readAll(ImportFormat.CSV, "name,salary,role\na,1,INTERN\n");
+            });
+        }
+    }
+
+    @Nested
+    class Ndjson {
+        @Test
+        void shouldReadOneEmployeePerLineAndReportInvalidJson() throws IOException {
+            String body = "{\"name\":\"a\",\"salary\":10.5,\"hiringDate\":\"2020-01-01\",\"role\":\"INTERN\"}\n"
+                    + "\n"
+                    + "{\"name\":\"b\",\n"
+                    + "null\n";
+
+            List<ImportRecord> records = readAll(ImportFormat.NDJSON, body);
+
+            Assertions.assertEquals(3, records.size());
+            Assertions.assertEquals("a", records.get(0).employee().getName());
+            Assertions.assertEquals(LocalDate.of(2020, 1, 1), records.get(0).employee().getHiringDate());
+            Assertions.assertEquals(3, records.get(1).line());
+            Assertions.assertTrue(records.get(1).error().startsWith("Invalid JSON"));
+            Assertions.assertEquals("The line must contain a JSON object", records.get(2).error());
+        }
+
+        @Test
+        void shouldRejectAnOverLongLineAndKeepReading() throws IOException {
+            String body = "{\"name\":\"" + "a".repeat(EmployeeRecordReader.MAX_LINE_LENGTH) + "\"}\n"
+                    + "{\"name\":\"b\"}\n";
+
+            List<ImportRecord> records = readAll(ImportFormat.NDJSON, body);
+
+            Assertions.assertEquals(2, records.size());
+            Assertions.assertTrue(records.get(0).error().startsWith("The line is longer than"));
+            Assertions.assertEquals(2, records.get(1).line());
+            Assertions.assertEquals("b", records.get(1).employee().getName());
+        }
+    }
+
+    @Test
+    void fromContentTypeShouldIgnoreParametersAndCase() {
+        Assertions.assertEquals(ImportFormat.CSV, ImportFormat.fromContentType("Text/CSV; charset=UTF-8"));
+        Assertions.assertEquals(ImportFormat.NDJSON, ImportFormat.fromContentType("application/x-ndjson"));
+        Assertions.assertNull(ImportFormat.fromContentType("application/json"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.mlcdev.employeeapi.job;
+
+import com.mlcdev.employeeapi.dto.JobDTO;
+import com.mlcdev.employeeapi.exception.DatabaseException;
+import com.mlcdev.employeeapi.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+class JobRegistryTest {
+
+    @Test
+    void submitShouldTrackProgressUntilTheJobCompletes() {
+        JobRegistry registry = new JobRegistry(Runnable::run, 10);
+
+        Job job = registry.submit("raise", -1, running -> {
+            running.advance(500, 480);
+            running.advance(12, 12);
+        });
+
+        JobDTO dto = registry.get(job.getId()).orElseThrow().toDTO();
+        Assertions.assertEquals("COMPLETED", dto.getStatus());
+        Assertions.assertEquals(512, dto.getProcessed());
+        Assertions.assertEquals(492, dto.getAffected());
+        Assertions.assertNull(dto.getTotal());
+        Assertions.assertNotNull(dto.getFinishedAt());
+    }
+
+    @Test
+    void submitShouldMarkTheJobAsFailedWhenTheWorkThrows() {
+        JobRegistry registry = new JobRegistry(Runnable::run, 10);
+
+        Job job = registry.submit("delete", 3, running -> {
+            running.advance(2, 2);
+            throw new DatabaseException("Error on the bulk delete after 2 rows");
+        });
+
+        JobDTO dto = job.toDTO();
+        Assertions.assertEquals("FAILED", dto.getStatus());
+        Assertions.assertEquals("Error on the bulk delete after 2 rows", dto.getError());
+        Assertions.assertEquals(2, dto.getAffected());
+    }
+
+    @Test
+    void submitShouldRejectWorkWhenTheQueueIsFull() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        CountDownLatch release = new CountDownLatch(1);
+        try (JobRegistry registry = new JobRegistry(executor, 10)) {
+            Job running = registry.submit("import", -1, job -> awaitQuietly(release));
+            Job queued = registry.submit("import", -1, job -> { });
+
+            ServiceUnavailableException exception = Assertions.assertThrows(ServiceUnavailableException.class,
+                    () -> registry.submit("import", -1, job -> { }));
+
+            Assertions.assertTrue(exception.getRetryAfterSeconds() > 0);
+            Assertions.assertTrue(registry.get(running.getId()).isPresent());
+            Assertions.assertTrue(registry.get(queued.getId()).isPresent());
+            Assertions.assertTrue(registry.get(queued.getId() + 1).isEmpty());
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void submitShouldOnlyRetainTheMostRecentFinishedJobs() {
+        JobRegistry registry = new JobRegistry(Runnable::run, 2);
+
+        Job first = registry.submit("raise", -1, running -> { });
+        registry.submit("raise", -1, running -> { });
+        registry.submit("raise", -1, running -> { });
+        Job last = registry.submit("raise", -1, running -> { });
+
+        Assertions.assertTrue(registry.get(first.getId()).isEmpty());
+        Assertions.assertTrue(registry.get(last.getId()).isPresent());
+    }
+}
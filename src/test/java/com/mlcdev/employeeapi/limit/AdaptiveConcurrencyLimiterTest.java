@@ -0,0 +1,73 @@
+package com.mlcdev.employeeapi.limit;
+
+import com.mlcdev.employeeapi.exception.DatabaseException;
+import com.mlcdev.employeeapi.exception.NotFoundException;
+import com.mlcdev.employeeapi.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLTransientConnectionException;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void acquireShouldRejectRequestsAboveTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1000, 0.5, 3);
+        limiter.acquire();
+        long start = limiter.acquire();
+
+        ServiceUnavailableException e = Assertions.assertThrows(ServiceUnavailableException.class, limiter::acquire);
+
+        Assertions.assertEquals(3, e.getRetryAfterSeconds());
+        Assertions.assertEquals(1, limiter.getRejectedCount());
+        limiter.release(start, false);
+        Assertions.assertDoesNotThrow(limiter::acquire);
+    }
+
+    @Test
+    void overloadShouldShrinkTheLimitDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 1000, 0.5, 1);
+
+        limiter.release(limiter.acquire(), true);
+        Assertions.assertEquals(4, limiter.getLimit());
+        limiter.release(limiter.acquire(), true);
+        limiter.release(limiter.acquire(), true);
+        Assertions.assertEquals(2, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void slowRequestsShouldShrinkTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 0, 0.5, 1);
+
+        limiter.release(limiter.acquire() - 1_000_000, false);
+
+        Assertions.assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void fastRequestsShouldGrowTheLimitOnlyWhileItIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 3, 60000, 0.5, 1);
+
+        for (int i = 0; i < 10; i++) {
+            long first = limiter.acquire();
+            long second = limiter.acquire();
+            limiter.release(second, false);
+            limiter.release(first, false);
+        }
+        Assertions.assertEquals(3, limiter.getLimit());
+
+        AdaptiveConcurrencyLimiter idle = new AdaptiveConcurrencyLimiter(4, 1, 10, 60000, 0.5, 1);
+        for (int i = 0; i < 10; i++) {
+            idle.release(idle.acquire(), false);
+        }
+        Assertions.assertEquals(4, idle.getLimit());
+    }
+
+    @Test
+    void isOverloadShouldDetectConnectionTimeoutsInTheCauseChain() {
+        Assertions.assertTrue(AdaptiveConcurrencyLimiter.isOverload(
+                new DatabaseException("Error Selecting the employee", new SQLTransientConnectionException("timeout"))));
+        Assertions.assertFalse(AdaptiveConcurrencyLimiter.isOverload(new NotFoundException("The employee does not exist")));
+    }
+}
@@ -0,0 +1,69 @@
+package com.mlcdev.employeeapi.logging;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void offerShouldRejectElementsWhenTheBufferIsFull() {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(buffer.offer(i));
+        }
+        Assertions.assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(2, buffer.drainTo(drained, 2));
+        Assertions.assertTrue(buffer.offer(4));
+        buffer.drainTo(drained, 10);
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), drained);
+    }
+
+    @Test
+    void capacityShouldBeRoundedUpToAPowerOfTwo() {
+        Assertions.assertEquals(8, new AccessLogRingBuffer<>(5).capacity());
+        Assertions.assertEquals(8, new AccessLogRingBuffer<>(8).capacity());
+    }
+
+    @Test
+    void concurrentProducersShouldNeverLoseOrDuplicateElements() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (seen.size() < producers * perProducer) {
+            buffer.drainTo(batch, 256);
+            for (Integer value : batch) {
+                Assertions.assertTrue(seen.add(value), "Duplicated element " + value);
+            }
+            batch.clear();
+        }
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assertions.assertEquals(0, buffer.drainTo(batch, 256));
+    }
+}
@@ -0,0 +1,55 @@
+package com.mlcdev.employeeapi.logging;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class AccessLogTest {
+
+    private List<String> lines(List<String> batches) {
+        List<String> lines = new ArrayList<>();
+        for (String batch : batches) {
+            lines.addAll(Arrays.asList(batch.split("\n")));
+        }
+        return lines;
+    }
+
+    @Test
+    void publishShouldAlwaysLogErrorsAndSlowRequestsAndSampleTheRest() {
+        List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        AccessLog accessLog = new AccessLog(64, 16, 0.0, 100, batches::add);
+
+        accessLog.publish("GET", "/app/employee/1", "/employee/{id}", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        accessLog.publish("GET", "/app/employee/2", "/employee/{id}", 404, TimeUnit.MILLISECONDS.toNanos(5));
+        accessLog.publish("GET", "/app/employee", "/employee", 200, TimeUnit.MILLISECONDS.toNanos(150));
+        accessLog.close();
+
+        List<String> lines = lines(batches);
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(0).contains("\"uri\":\"/app/employee/2\",\"status\":404"));
+        Assertions.assertTrue(lines.get(0).endsWith("\"reason\":\"error\"}"));
+        Assertions.assertTrue(lines.get(1).contains("\"route\":\"/employee\""));
+        Assertions.assertTrue(lines.get(1).endsWith("\"reason\":\"slow\"}"));
+        Assertions.assertEquals(2, accessLog.getWrittenCount());
+    }
+
+    @Test
+    void publishShouldEscapeTheUriAndLogEverythingWhenTheSampleRateIsOne() {
+        List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        AccessLog accessLog = new AccessLog(64, 16, 1.0, 1000, batches::add);
+
+        accessLog.publish("GET", "/app/employee/\"x\"", "/employee/\"x\"", 200, 1_500_000);
+        accessLog.close();
+
+        List<String> lines = lines(batches);
+        Assertions.assertEquals(1, lines.size());
+        Assertions.assertTrue(lines.get(0).contains("\"uri\":\"/app/employee/\\\"x\\\"\""));
+        Assertions.assertTrue(lines.get(0).contains("\"durationMs\":1.5"));
+        Assertions.assertTrue(lines.get(0).endsWith("\"reason\":\"sampled\"}"));
+    }
+}
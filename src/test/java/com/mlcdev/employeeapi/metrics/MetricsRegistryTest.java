@@ -0,0 +1,48 @@
+package com.mlcdev.employeeapi.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class MetricsRegistryTest {
+
+    @Test
+    void recordRequestShouldFillCumulativeBuckets() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordRequest("GET", "/employee/{id}", 200, TimeUnit.MILLISECONDS.toNanos(3));
+        registry.recordRequest("GET", "/employee/{id}", 200, TimeUnit.MILLISECONDS.toNanos(40));
+
+        LatencyHistogram histogram = registry.histogram("http_server_requests_seconds", "",
+                MetricsRegistry.labels("method", "GET", "route", "/employee/{id}", "status", "200"));
+        long[] counts = histogram.cumulativeCounts();
+
+        Assertions.assertEquals(2, histogram.getCount());
+        Assertions.assertEquals(0, counts[2]);
+        Assertions.assertEquals(1, counts[3]);
+        Assertions.assertEquals(2, counts[counts.length - 1]);
+    }
+
+    @Test
+    void writePrometheusShouldRenderHistogramsCountersAndGauges() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordRequest("GET", "/employee", 200, TimeUnit.MILLISECONDS.toNanos(1));
+        registry.counter("employee_cache_hits_total", "Employee cache hits.", "").add(3);
+        registry.gauge("hikaricp_connections_active", "Connections in use.", MetricsRegistry.labels("pool", "primary"), () -> 2);
+
+        StringBuilder out = new StringBuilder();
+        registry.writePrometheus(out);
+        String text = out.toString();
+
+        Assertions.assertTrue(text.contains("# TYPE http_server_requests_seconds histogram"));
+        Assertions.assertTrue(text.contains("http_server_requests_seconds_bucket{method=\"GET\",route=\"/employee\",status=\"200\",le=\"+Inf\"} 1"));
+        Assertions.assertTrue(text.contains("http_server_requests_seconds_count{method=\"GET\",route=\"/employee\",status=\"200\"} 1"));
+        Assertions.assertTrue(text.contains("employee_cache_hits_total 3"));
+        Assertions.assertTrue(text.contains("hikaricp_connections_active{pool=\"primary\"} 2"));
+    }
+
+    @Test
+    void labelsShouldEscapeQuotesAndBackslashes() {
+        Assertions.assertEquals("route=\"a\\\"b\\\\c\"", MetricsRegistry.labels("route", "a\"b\\c"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.exception.DatabaseException;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+class DataSourceRouterTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private HikariDataSource primary;
+    private HikariDataSource replica1;
+    private HikariDataSource replica2;
+
+    @BeforeEach
+    void createDatabases() throws SQLException {
+        primary = database("router_primary", "primary");
+        replica1 = database("router_replica1", "replica1");
+        replica2 = database("router_replica2", "replica2");
+    }
+
+    @AfterEach
+    void closeDatabases() throws SQLException {
+        for (HikariDataSource pool : pools) {
+            if (!pool.isClosed()) {
+                try (Connection con = pool.getConnection()) {
+                    con.createStatement().execute("DROP TABLE employee");
+                }
+                pool.close();
+            }
+        }
+    }
+
+    private HikariDataSource database(String name, String employeeName) throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(1000);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+        try (Connection con = dataSource.getConnection()) {
+            con.createStatement().execute("""
+                    CREATE TABLE employee (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        salary DECIMAL(19, 2) NOT NULL,
+                        hiring_date DATE NOT NULL,
+                        role VARCHAR(50) NOT NULL
+                    )""");
+            con.createStatement().execute("INSERT INTO employee (name, salary, hiring_date, role) VALUES ('"
+                    + employeeName + "', 1.00, '2000-01-01', 'INTERN')");
+        }
+        return dataSource;
+    }
+
+    private String nameOfFirstEmployee(EmployeeDAO dao) {
+        return dao.findById(1L).orElseThrow().getName();
+    }
+
+    @Test
+    void readsShouldUseTheReplicaAndWritesThePrimary() {
+        EmployeeDAO dao = new EmployeeDAO(new DataSourceRouter(primary, List.of(replica1),
+                DataSourceRouter.Strategy.ROUND_ROBIN, 1000), 500, 1000);
+
+        dao.save(new Employee("written", new BigDecimal("2.00"), LocalDate.of(2020, 1, 1), Role.JUNIOR));
+
+        Assertions.assertEquals("replica1", nameOfFirstEmployee(dao));
+        Assertions.assertEquals(1, dao.count(EmployeeFilter.NONE));
+        Assertions.assertEquals("primary", dao.findByIdOnPrimary(1L).orElseThrow().getName());
+        Assertions.assertEquals("written", dao.findByIdOnPrimary(2L).orElseThrow().getName());
+        Assertions.assertEquals("primary", dao.findAllByIdsOnPrimary(List.of(1L)).getFirst().getName());
+    }
+
+    @Test
+    void roundRobinShouldAlternateBetweenReplicas() {
+        EmployeeDAO dao = new EmployeeDAO(new DataSourceRouter(primary, List.of(replica1, replica2),
+                DataSourceRouter.Strategy.ROUND_ROBIN, 1000), 500, 1000);
+
+        List<String> names = List.of(nameOfFirstEmployee(dao), nameOfFirstEmployee(dao), nameOfFirstEmployee(dao));
+
+        Assertions.assertEquals(List.of("replica1", "replica2", "replica1"), names);
+    }
+
+    @Test
+    void leastPendingShouldPreferTheLessBusyReplica() throws SQLException {
+        EmployeeDAO dao = new EmployeeDAO(new DataSourceRouter(primary, List.of(replica1, replica2),
+                DataSourceRouter.Strategy.LEAST_PENDING, 1000), 500, 1000);
+
+        try (Connection busy = replica1.getConnection()) {
+            Assertions.assertEquals("replica2", nameOfFirstEmployee(dao));
+        }
+    }
+
+    @Test
+    void aFailingReplicaShouldFallBackToThePrimaryAndBeSkipped() throws SQLException {
+        DataSourceRouter router = new DataSourceRouter(primary, List.of(replica1, replica2),
+                DataSourceRouter.Strategy.ROUND_ROBIN, 60000);
+        EmployeeDAO dao = new EmployeeDAO(router, 500, 1000);
+        try (Connection con = replica1.getConnection()) {
+            con.createStatement().execute("DROP TABLE employee");
+        }
+        pools.remove(replica1);
+        replica1.close();
+
+        Assertions.assertEquals("primary", nameOfFirstEmployee(dao));
+        Assertions.assertEquals("replica2", nameOfFirstEmployee(dao));
+        Assertions.assertEquals("replica2", nameOfFirstEmployee(dao));
+    }
+
+    @Test
+    void aQueryErrorOnAReplicaShouldBeThrownWithoutSkippingTheReplica() throws SQLException {
+        EmployeeDAO dao = new EmployeeDAO(new DataSourceRouter(primary, List.of(replica1, replica2),
+                DataSourceRouter.Strategy.ROUND_ROBIN, 60000), 500, 1000);
+        try (Connection con = replica1.getConnection()) {
+            con.createStatement().execute("ALTER TABLE employee RENAME TO missing");
+        }
+
+        Assertions.assertThrows(DatabaseException.class, () -> nameOfFirstEmployee(dao));
+        Assertions.assertEquals("replica2", nameOfFirstEmployee(dao));
+        Assertions.assertThrows(DatabaseException.class, () -> nameOfFirstEmployee(dao));
+
+        try (Connection con = replica1.getConnection()) {
+            con.createStatement().execute("ALTER TABLE missing RENAME TO employee");
+        }
+    }
+
+    @Test
+    void onlyConnectionErrorsShouldCountAsReplicaFailures() {
+        Assertions.assertTrue(DataSourceRouter.isConnectionFailure(new SQLTransientConnectionException("timeout")));
+        Assertions.assertTrue(DataSourceRouter.isConnectionFailure(new SQLException("link failure", "08S01")));
+        Assertions.assertFalse(DataSourceRouter.isConnectionFailure(new SQLException("no such table", "42S02")));
+        Assertions.assertFalse(DataSourceRouter.isConnectionFailure(new SQLException("unknown")));
+    }
+
+    @Test
+    void strategyShouldBeParsedFromTheProperty() {
+        Assertions.assertEquals(DataSourceRouter.Strategy.ROUND_ROBIN, DataSourceRouter.Strategy.fromProperty(null));
+        Assertions.assertEquals(DataSourceRouter.Strategy.LEAST_PENDING, DataSourceRouter.Strategy.fromProperty("least-pending"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.exception.DatabaseException;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class EmployeeBatchLoaderTest {
+
+    private final EmployeeDAO dao = Mockito.mock(EmployeeDAO.class);
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private EmployeeBatchLoader loader;
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+        if (loader != null) {
+            loader.close();
+        }
+    }
+
+    private static Employee employee(long id) {
+        return new Employee(id, "name" + id, new BigDecimal("1.00"), LocalDate.of(2000, 1, 1), Role.INTERN);
+    }
+
+    private List<CompletableFuture<Optional<Employee>>> loadConcurrently(long... ids) {
+        List<CompletableFuture<Optional<Employee>>> results = new ArrayList<>();
+        for (long id : ids) {
+            results.add(CompletableFuture.supplyAsync(() -> loader.load(id), callers));
+        }
+        return results;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentLoadsShouldShareOneInQuery() {
+        Mockito.when(dao.findByIds(Mockito.anyCollection())).thenReturn(List.of(employee(1), employee(2), employee(3)));
+        loader = new EmployeeBatchLoader(dao, 4, 5_000_000, Executors.newSingleThreadExecutor());
+
+        List<CompletableFuture<Optional<Employee>>> results = loadConcurrently(1, 2, 3, 4);
+
+        Assertions.assertEquals("name1", results.get(0).join().orElseThrow().getName());
+        Assertions.assertEquals("name3", results.get(2).join().orElseThrow().getName());
+        Assertions.assertTrue(results.get(3).join().isEmpty());
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(dao).findByIds(ids.capture());
+        Assertions.assertEquals(4, ids.getValue().size());
+        Assertions.assertEquals(1, loader.getBatchCount());
+        Assertions.assertEquals(1.0, loader.getFillRatio());
+    }
+
+    @Test
+    void aFailedBatchShouldFailEveryCallerInIt() {
+        Mockito.when(dao.findByIds(Mockito.anyCollection())).thenThrow(new DatabaseException("Error finding employees by ID"));
+        loader = new EmployeeBatchLoader(dao, 2, 5_000_000, Executors.newSingleThreadExecutor());
+
+        List<CompletableFuture<Optional<Employee>>> results = loadConcurrently(1, 2);
+
+        for (CompletableFuture<Optional<Employee>> result : results) {
+            Exception e = Assertions.assertThrows(Exception.class, result::join);
+            Assertions.assertInstanceOf(DatabaseException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void loadShouldQueryDirectlyAfterClose() {
+        Mockito.when(dao.findById(7L)).thenReturn(Optional.of(employee(7)));
+        loader = new EmployeeBatchLoader(dao, 10, 1000, Executors.newSingleThreadExecutor());
+        loader.close();
+
+        Assertions.assertEquals("name7", loader.load(7L).orElseThrow().getName());
+        Mockito.verify(dao, Mockito.never()).findByIds(Mockito.anyCollection());
+    }
+}
@@ -1,8 +1,10 @@
 package com.mlcdev.employeeapi.repository;
 
 import com.mlcdev.employeeapi.config.DatabaseConfig;
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
 import com.mlcdev.employeeapi.exception.DatabaseException;
 import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.EmployeeField;
 import com.mlcdev.employeeapi.model.Role;
 import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.*;
@@ -11,6 +13,8 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -95,12 +99,77 @@ public class EmployeeDAOTest {
             assertNotNullAndEqualsEmployee(getBaseEmployee(2L), employeeList.get(1));
         }
 
+        @Test
+        void findAllAfterShouldReturnOnlyEmployeesAfterTheGivenId(){
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            List<Employee> employeeList = dao.findAllAfter(1L, 10);
+            Assertions.assertEquals(2, employeeList.size());
+            assertNotNullAndEqualsEmployee(getBaseEmployee(2L), employeeList.get(0));
+            assertNotNullAndEqualsEmployee(getBaseEmployee(3L), employeeList.get(1));
+        }
+
+        @Test
+        void findAllAfterShouldRespectTheLimit(){
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            List<Employee> employeeList = dao.findAllAfter(0L, 1);
+            Assertions.assertEquals(1, employeeList.size());
+            assertNotNullAndEqualsEmployee(getBaseEmployee(1L), employeeList.get(0));
+        }
+
+        @Test
+        void streamAllShouldHandEveryEmployeeInIdOrder() throws Exception{
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            List<Employee> streamed = new ArrayList<>();
+            new EmployeeDAO(dataSource, 500, 2).streamAll(streamed::add);
+            Assertions.assertEquals(3, streamed.size());
+            for (int i = 0; i < streamed.size(); i++) {
+                assertNotNullAndEqualsEmployee(getBaseEmployee(i + 1L), streamed.get(i));
+            }
+        }
+
+        @Test
+        void findByIdWithFieldsShouldOnlyMapTheRequestedColumns(){
+            addBaseEmployeeToDatabase();
+            Employee result = dao.findById(1L, EnumSet.of(EmployeeField.NAME)).get();
+            Assertions.assertEquals(1L, result.getId());
+            Assertions.assertEquals("name", result.getName());
+            Assertions.assertNull(result.getSalary());
+            Assertions.assertNull(result.getHiringDate());
+            Assertions.assertNull(result.getRole());
+        }
+
+        @Test
+        void findAllWithFieldsShouldOnlyMapTheRequestedColumns(){
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            List<Employee> employeeList = dao.findAll(10, 0, EnumSet.of(EmployeeField.ID, EmployeeField.ROLE));
+            Assertions.assertEquals(2, employeeList.size());
+            Assertions.assertEquals(Role.INTERN, employeeList.get(1).getRole());
+            Assertions.assertNull(employeeList.get(1).getName());
+        }
+
         @Test
         void saveShouldPersistAndReturnEmployee(){
             Employee result = dao.save(getBaseEmployee());
             assertNotNullAndEqualsEmployee(getBaseEmployee(1L), result);
         }
 
+        @Test
+        void saveAllShouldPersistEveryChunkAndReturnGeneratedIds(){
+            EmployeeDAO batchDao = new EmployeeDAO(dataSource, 2);
+            List<Employee> result = batchDao.saveAll(List.of(getBaseEmployee(), getBaseEmployee(), getBaseEmployee()));
+            Assertions.assertEquals(3, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertNotNullAndEqualsEmployee(getBaseEmployee(i + 1L), result.get(i));
+                assertNotNullAndEqualsEmployee(getBaseEmployee(i + 1L), dao.findById(i + 1L).get());
+            }
+        }
+
         @Test
         void updateShouldModifyDatabaseData(){
             addBaseEmployeeToDatabase();
@@ -111,6 +180,182 @@ public class EmployeeDAOTest {
             assertNotNullAndEqualsEmployee(employee,dao.findById(1L).get());
         }
 
+        @Test
+        void patchShouldOnlyModifyTheSuppliedColumns(){
+            addBaseEmployeeToDatabase();
+            Employee changes = new Employee("name2", null, null, null);
+            Assertions.assertTrue(dao.patch(1L, changes));
+            Employee expected = getBaseEmployee(1L);
+            expected.setName("name2");
+            assertNotNullAndEqualsEmployee(expected, dao.findById(1L).get());
+        }
+
+        @Test
+        void patchAndGetShouldReturnTheMergedEmployee(){
+            addBaseEmployeeToDatabase();
+            Employee changes = new Employee(null, new BigDecimal("2.00"), null, Role.SENIOR);
+            Employee expected = getBaseEmployee(1L);
+            expected.setSalary(new BigDecimal("2.00"));
+            expected.setRole(Role.SENIOR);
+            assertNotNullAndEqualsEmployee(expected, dao.patchAndGet(1L, changes).get());
+        }
+
+        @Test
+        void patchShouldReturnFalseWhenTheEmployeeDoesNotExist(){
+            Assertions.assertFalse(dao.patch(1L, new Employee("name2", null, null, null)));
+        }
+
+        @Test
+        void writesWithPreviousShouldReturnTheRowReadBeforeTheWrite(){
+            addBaseEmployeeToDatabase();
+            Employee changes = new Employee(null, new BigDecimal("2.00"), null, null);
+            Employee expected = getBaseEmployee(1L);
+            expected.setSalary(new BigDecimal("2.00"));
+
+            EmployeeChange patched = dao.patchWithPrevious(1L, changes).get();
+            assertNotNullAndEqualsEmployee(getBaseEmployee(1L), patched.previous());
+            assertNotNullAndEqualsEmployee(expected, patched.current());
+            assertNotNullAndEqualsEmployee(expected, dao.findById(1L).get());
+
+            expected.setName("name2");
+            EmployeeChange updated = dao.updateWithPrevious(expected).get();
+            Assertions.assertEquals(new BigDecimal("2.00"), updated.previous().getSalary());
+            assertNotNullAndEqualsEmployee(expected, updated.current());
+
+            assertNotNullAndEqualsEmployee(expected, dao.deleteWithPrevious(1L).get());
+            Assertions.assertEquals(Optional.empty(), dao.findById(1L));
+            Assertions.assertEquals(Optional.empty(), dao.deleteWithPrevious(1L));
+            Assertions.assertEquals(Optional.empty(), dao.patchWithPrevious(1L, changes));
+        }
+
+        @Test
+        void findAllWithFilterShouldReturnOnlyMatchingEmployees(){
+            dao.save(new Employee("a", new BigDecimal("5000.00"), LocalDate.of(2019, 5, 1), Role.SENIOR));
+            dao.save(new Employee("b", new BigDecimal("7000.00"), LocalDate.of(2021, 5, 1), Role.SENIOR));
+            dao.save(new Employee("c", new BigDecimal("9000.00"), LocalDate.of(2022, 5, 1), Role.SENIOR));
+            dao.save(new Employee("d", new BigDecimal("7000.00"), LocalDate.of(2021, 5, 1), Role.JUNIOR));
+            EmployeeFilter filter = new EmployeeFilter(Role.SENIOR, null, new BigDecimal("8000.00"), LocalDate.of(2020, 1, 1), null);
+
+            List<Employee> employeeList = dao.findAll(10, 0, EmployeeField.ALL, filter);
+
+            Assertions.assertEquals(1, employeeList.size());
+            Assertions.assertEquals("b", employeeList.get(0).getName());
+        }
+
+        @Test
+        void findAllAfterWithFilterShouldCombineTheCursorAndThePredicates(){
+            dao.save(new Employee("a", new BigDecimal("5000.00"), LocalDate.of(2019, 5, 1), Role.SENIOR));
+            dao.save(new Employee("b", new BigDecimal("7000.00"), LocalDate.of(2021, 5, 1), Role.JUNIOR));
+            dao.save(new Employee("c", new BigDecimal("9000.00"), LocalDate.of(2022, 5, 1), Role.SENIOR));
+            EmployeeFilter filter = new EmployeeFilter(null, new BigDecimal("6000.00"), null, null, LocalDate.of(2022, 12, 31));
+
+            List<Employee> employeeList = dao.findAllAfter(2L, 10, EnumSet.of(EmployeeField.NAME), filter);
+
+            Assertions.assertEquals(1, employeeList.size());
+            Assertions.assertEquals(3L, employeeList.get(0).getId());
+            Assertions.assertEquals("c", employeeList.get(0).getName());
+            Assertions.assertNull(employeeList.get(0).getSalary());
+        }
+
+        @Test
+        void countShouldApplyTheFilter(){
+            dao.save(new Employee("a", new BigDecimal("5000.00"), LocalDate.of(2019, 5, 1), Role.SENIOR));
+            dao.save(new Employee("b", new BigDecimal("7000.00"), LocalDate.of(2021, 5, 1), Role.SENIOR));
+            dao.save(new Employee("c", new BigDecimal("7000.00"), LocalDate.of(2021, 5, 1), Role.JUNIOR));
+
+            Assertions.assertEquals(3, dao.count(EmployeeFilter.NONE));
+            Assertions.assertEquals(2, dao.count(new EmployeeFilter(Role.SENIOR, null, null, null, null)));
+            Assertions.assertEquals(1, dao.count(new EmployeeFilter(Role.SENIOR, new BigDecimal("6000.00"), null, null, null)));
+        }
+
+        @Test
+        void raiseSalariesShouldUpdateOnlyMatchingEmployeesInChunks(){
+            EmployeeDAO batchDao = new EmployeeDAO(dataSource, 2);
+            dao.save(new Employee("a", new BigDecimal("1000.00"), LocalDate.of(2019, 5, 1), Role.JUNIOR));
+            dao.save(new Employee("b", new BigDecimal("2000.00"), LocalDate.of(2021, 5, 1), Role.SENIOR));
+            dao.save(new Employee("c", new BigDecimal("1500.00"), LocalDate.of(2020, 5, 1), Role.JUNIOR));
+            dao.save(new Employee("d", new BigDecimal("1200.00"), LocalDate.of(2018, 5, 1), Role.JUNIOR));
+            dao.save(new Employee("e", new BigDecimal("1100.00"), LocalDate.of(2023, 5, 1), Role.JUNIOR));
+            EmployeeFilter filter = new EmployeeFilter(Role.JUNIOR, null, null, null, LocalDate.of(2021, 1, 1));
+            List<Integer> chunks = new ArrayList<>();
+
+            long affected = batchDao.raiseSalaries(filter, new BigDecimal("1.10"), (processed, rows) -> chunks.add(rows));
+
+            Assertions.assertEquals(3, affected);
+            Assertions.assertEquals(List.of(2, 1), chunks);
+            Assertions.assertEquals(0, new BigDecimal("1100.00").compareTo(dao.findById(1L).orElseThrow().getSalary()));
+            Assertions.assertEquals(0, new BigDecimal("2000.00").compareTo(dao.findById(2L).orElseThrow().getSalary()));
+            Assertions.assertEquals(0, new BigDecimal("1650.00").compareTo(dao.findById(3L).orElseThrow().getSalary()));
+            Assertions.assertEquals(0, new BigDecimal("1320.00").compareTo(dao.findById(4L).orElseThrow().getSalary()));
+            Assertions.assertEquals(0, new BigDecimal("1100.00").compareTo(dao.findById(5L).orElseThrow().getSalary()));
+        }
+
+        @Test
+        void deleteByIdsShouldRemoveEveryListedEmployeeInChunks(){
+            EmployeeDAO batchDao = new EmployeeDAO(dataSource, 2);
+            for (int i = 0; i < 5; i++) {
+                addBaseEmployeeToDatabase();
+            }
+            List<Integer> processed = new ArrayList<>();
+            List<Long> committed = new ArrayList<>();
+
+            long affected = batchDao.deleteByIds(List.of(4L, 1L, 2L, 4L, 99L), (count, rows) -> processed.add(count), committed::addAll);
+
+            Assertions.assertEquals(3, affected);
+            Assertions.assertEquals(List.of(2, 2), processed);
+            Assertions.assertEquals(List.of(1L, 2L, 4L, 99L), committed);
+            Assertions.assertEquals(List.of(3L, 5L), dao.findAll(10, 0).stream().map(Employee::getId).toList());
+        }
+
+        @Test
+        void streamAllAsDTOsShouldMapEveryRowStraightToTheDTO() throws Exception{
+            addBaseEmployeeToDatabase();
+            addBaseEmployeeToDatabase();
+            List<EmployeeDTO> streamed = new ArrayList<>();
+
+            dao.streamAllAsDTOs(streamed::add);
+
+            Assertions.assertEquals(List.of(1L, 2L), streamed.stream().map(EmployeeDTO::getId).toList());
+            Assertions.assertEquals("INTERN", streamed.get(1).getRole());
+            Assertions.assertEquals(LocalDate.of(2000, 1, 1), streamed.get(1).getHiringDate());
+        }
+
+        @Test
+        void findByIdsShouldReturnOnlyTheExistingEmployees(){
+            for (int i = 0; i < 3; i++) {
+                addBaseEmployeeToDatabase();
+            }
+
+            List<Long> found = dao.findByIds(List.of(3L, 1L, 99L)).stream().map(Employee::getId).sorted().toList();
+
+            Assertions.assertEquals(List.of(1L, 3L), found);
+            Assertions.assertTrue(dao.findByIds(List.of()).isEmpty());
+        }
+
+        @Test
+        void findByIdsShouldPadTheInListWithoutDuplicatingRows(){
+            for (int i = 0; i < 5; i++) {
+                addBaseEmployeeToDatabase();
+            }
+
+            List<Employee> found = dao.findByIds(List.of(1L, 2L, 3L, 4L, 5L));
+
+            Assertions.assertEquals(5, found.size());
+            assertNotNullAndEqualsEmployee(getBaseEmployee(5L), found.stream().filter(e -> e.getId() == 5L).findFirst().orElseThrow());
+        }
+
+        @Test
+        void findAllByIdsShouldSplitLongListsIntoChunks(){
+            EmployeeDAO batchDao = new EmployeeDAO(dataSource, 2);
+            for (int i = 0; i < 5; i++) {
+                addBaseEmployeeToDatabase();
+            }
+
+            List<Long> found = batchDao.findAllByIds(List.of(5L, 4L, 99L, 2L, 1L)).stream().map(Employee::getId).sorted().toList();
+
+            Assertions.assertEquals(List.of(1L, 2L, 4L, 5L), found);
+        }
+
         @Test
         void deleteShouldRemoveEmployee(){
             addBaseEmployeeToDatabase();
@@ -144,6 +389,26 @@ public class EmployeeDAOTest {
            });
         }
 
+        @Test
+        void saveAllShouldRollbackEveryChunkWhenOneRowIsInvalid(){
+            EmployeeDAO batchDao = new EmployeeDAO(dataSource, 2);
+            Employee invalid = getBaseEmployee();
+            invalid.setName("a".repeat(500));
+            Assertions.assertThrows(DatabaseException.class, () -> {
+                batchDao.saveAll(List.of(getBaseEmployee(), getBaseEmployee(), invalid));
+            });
+            Assertions.assertTrue(dao.findAll(10, 0).isEmpty());
+        }
+
+        @Test
+        void findByIdsShouldRejectMoreIdsThanOneInListHolds(){
+            List<Long> ids = new ArrayList<>();
+            for (long i = 1; i <= 1025; i++) {
+                ids.add(i);
+            }
+            Assertions.assertThrows(IllegalArgumentException.class, () -> dao.findByIds(ids));
+        }
+
         @Test
         void updateShouldThrowExceptionWhenDataIsInvalid(){
             addBaseEmployeeToDatabase();
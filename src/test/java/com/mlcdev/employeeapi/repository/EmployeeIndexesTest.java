@@ -0,0 +1,51 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+class EmployeeIndexesTest {
+
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void createTableWithoutIndexes() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:employee_indexes;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(1);
+        dataSource = new HikariDataSource(config);
+        try (Connection con = dataSource.getConnection()) {
+            con.createStatement().execute("""
+                    CREATE TABLE employee (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        salary DECIMAL(19, 2) NOT NULL,
+                        hiring_date DATE NOT NULL,
+                        role VARCHAR(50) NOT NULL,
+                        INDEX idx_employee_salary (salary)
+                    )""");
+        }
+    }
+
+    @AfterEach
+    void dropTable() throws SQLException {
+        try (Connection con = dataSource.getConnection()) {
+            con.createStatement().execute("DROP TABLE employee");
+        }
+        dataSource.close();
+    }
+
+    @Test
+    void ensureShouldCreateOnlyTheMissingIndexesAndBeSafeToRepeat() {
+        Assertions.assertEquals(3, EmployeeIndexes.ensure(dataSource));
+        Assertions.assertEquals(0, EmployeeIndexes.ensure(dataSource));
+    }
+}
@@ -0,0 +1,71 @@
+package com.mlcdev.employeeapi.repository;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+class EmployeeRowMapperTest {
+
+    private ResultSet resultSet(String... labels) throws SQLException {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+        Mockito.when(metaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            Mockito.when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        return resultSet;
+    }
+
+    @Test
+    void toEmployeeShouldReadEveryColumnByItsResolvedPosition() throws SQLException {
+        ResultSet rs = resultSet("ROLE", "ID", "HIRING_DATE", "NAME", "SALARY");
+        Mockito.when(rs.getString(1)).thenReturn("SENIOR");
+        Mockito.when(rs.getLong(2)).thenReturn(7L);
+        Mockito.when(rs.getObject(3, LocalDate.class)).thenReturn(LocalDate.of(2020, 1, 1));
+        Mockito.when(rs.getString(4)).thenReturn("name");
+        Mockito.when(rs.getBigDecimal(5)).thenReturn(new BigDecimal("10.00"));
+
+        Employee employee = EmployeeRowMapper.of(rs).toEmployee(rs);
+
+        Assertions.assertEquals(7L, employee.getId());
+        Assertions.assertEquals("name", employee.getName());
+        Assertions.assertEquals(new BigDecimal("10.00"), employee.getSalary());
+        Assertions.assertEquals(LocalDate.of(2020, 1, 1), employee.getHiringDate());
+        Assertions.assertEquals(Role.SENIOR, employee.getRole());
+        Mockito.verify(rs, Mockito.never()).getString("name");
+    }
+
+    @Test
+    void toDTOShouldLeaveColumnsOutsideTheSelectListNull() throws SQLException {
+        ResultSet rs = resultSet("id", "role");
+        Mockito.when(rs.getLong(1)).thenReturn(3L);
+        Mockito.when(rs.getString(2)).thenReturn("INTERN");
+
+        EmployeeDTO dto = EmployeeRowMapper.of(rs).toDTO(rs);
+
+        Assertions.assertEquals(3L, dto.getId());
+        Assertions.assertEquals("INTERN", dto.getRole());
+        Assertions.assertNull(dto.getName());
+        Assertions.assertNull(dto.getSalary());
+        Assertions.assertNull(dto.getHiringDate());
+    }
+
+    @Test
+    void mappingShouldFailOnAnUnknownRoleOrAMissingId() throws SQLException {
+        ResultSet rs = resultSet("id", "role");
+        Mockito.when(rs.getString(2)).thenReturn("CEO");
+
+        Assertions.assertThrows(SQLException.class, () -> EmployeeRowMapper.of(rs).toEmployee(rs));
+        Assertions.assertThrows(SQLException.class, () -> EmployeeRowMapper.of(resultSet("name")));
+    }
+}
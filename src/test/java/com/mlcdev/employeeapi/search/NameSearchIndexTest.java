@@ -0,0 +1,97 @@
+package com.mlcdev.employeeapi.search;
+
+import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+class NameSearchIndexTest {
+
+    private Employee employee(Long id, String name) {
+        return new Employee(id, name, new BigDecimal("1.00"), LocalDate.of(2000, 1, 1), Role.INTERN);
+    }
+
+    private List<Long> ids(List<EmployeeDTO> results) {
+        return results.stream().map(EmployeeDTO::getId).toList();
+    }
+
+    @Test
+    void searchShouldMatchTokenPrefixesIgnoringCaseAndAccents() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.index(1L, "Carlos Eduardo Silva");
+        index.index(2L, "Fernanda Oliveira");
+        index.index(3L, "José Carvalho");
+
+        Assertions.assertEquals(List.of(1L, 3L), ids(index.search("car", 10)));
+        Assertions.assertEquals(List.of(3L), ids(index.search("JOSE", 10)));
+        Assertions.assertEquals("Fernanda Oliveira", index.search("oli", 10).get(0).getName());
+        Assertions.assertNull(index.search("oli", 10).get(0).getSalary());
+    }
+
+    @Test
+    void searchShouldRequireEveryTermAndHonourTheLimit() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.index(1L, "Carlos Silva");
+        index.index(2L, "Carla Souza");
+        index.index(3L, "Carlos Souza");
+
+        Assertions.assertEquals(List.of(3L), ids(index.search("carlos sou", 10)));
+        Assertions.assertEquals(1, index.search("car", 1).size());
+        Assertions.assertTrue(index.search("xyz", 10).isEmpty());
+        Assertions.assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void searchShouldReturnExactTokensBeforeLongerOnes() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.index(1L, "Carolina");
+        index.index(2L, "Carla");
+        index.index(3L, "Car Lee");
+
+        Assertions.assertEquals(List.of(3L, 2L, 1L), ids(index.search("car", 10)));
+    }
+
+    @Test
+    void multiTermSearchShouldKeepTheDriverTokenOrder() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.index(1L, "Carolina Souza");
+        index.index(2L, "Carla Souza");
+        index.index(3L, "Car Souza");
+        index.index(4L, "Carla Silva");
+
+        Assertions.assertEquals(List.of(3L, 2L, 1L), ids(index.search("so car", 10)));
+        Assertions.assertEquals(List.of(2L), ids(index.search("souza carla", 10)));
+    }
+
+    @Test
+    void multiTermSearchShouldStopAfterTheScanCap() {
+        NameSearchIndex index = new NameSearchIndex();
+        for (long id = 1; id <= NameSearchIndex.MAX_SCANNED_IDS; id++) {
+            index.index(id, "Maria Silva");
+        }
+        index.index(NameSearchIndex.MAX_SCANNED_IDS + 1L, "Maria Souza");
+
+        Assertions.assertTrue(index.search("maria sou", 10).isEmpty());
+        Assertions.assertEquals(List.of(NameSearchIndex.MAX_SCANNED_IDS + 1L), ids(index.search("souza", 10)));
+    }
+
+    @Test
+    void onChangeShouldKeepTheIndexInSync() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.onChange(null, employee(1L, "Lucas Pereira"));
+        index.onChange(employee(1L, "Lucas Pereira"), employee(1L, "Lucas Almeida"));
+
+        Assertions.assertTrue(index.search("pereira", 10).isEmpty());
+        Assertions.assertEquals(List.of(1L), ids(index.search("alm", 10)));
+
+        index.onChange(employee(1L, "Lucas Almeida"), null);
+        Assertions.assertTrue(index.search("lucas", 10).isEmpty());
+        Assertions.assertEquals(0, index.size());
+        Assertions.assertEquals(0, index.tokenCount());
+    }
+}
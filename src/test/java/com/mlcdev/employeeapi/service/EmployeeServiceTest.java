@@ -1,11 +1,27 @@
 package com.mlcdev.employeeapi.service;
 
+import com.mlcdev.employeeapi.cache.EmployeeCache;
+import com.mlcdev.employeeapi.dto.BulkDeleteDTO;
+import com.mlcdev.employeeapi.dto.BulkRaiseDTO;
+import com.mlcdev.employeeapi.dto.Cursor;
+import com.mlcdev.employeeapi.dto.EmployeeBatchDTO;
 import com.mlcdev.employeeapi.dto.EmployeeDTO;
+import com.mlcdev.employeeapi.dto.ImportReportDTO;
+import com.mlcdev.employeeapi.dto.JobDTO;
+import com.mlcdev.employeeapi.dto.PageDTO;
 import com.mlcdev.employeeapi.exception.BusinessRuleException;
+import com.mlcdev.employeeapi.exception.DatabaseException;
 import com.mlcdev.employeeapi.exception.NotFoundException;
+import com.mlcdev.employeeapi.importer.EmployeeRecordReader;
+import com.mlcdev.employeeapi.importer.ImportFormat;
+import com.mlcdev.employeeapi.job.JobRegistry;
 import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.EmployeeField;
 import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.BulkProgress;
+import com.mlcdev.employeeapi.repository.EmployeeChange;
 import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.EmployeeFilter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,12 +29,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 
@@ -31,6 +62,9 @@ class EmployeeServiceTest {
     @Mock
     EmployeeDAO dao;
 
+    @Spy
+    EmployeeCache cache = new EmployeeCache(100, 0);
+
     @Nested
     class HappyPath {
 
@@ -47,15 +81,99 @@ class EmployeeServiceTest {
         void findByIdShouldReturnADTO() {
             LocalDate testDate = LocalDate.now();
             Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
-            Mockito.when(dao.findById(1L)).thenReturn(Optional.of(employee));
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenReturn(Optional.of(employee));
             EmployeeDTO expected = new EmployeeDTO(employee);
 
             EmployeeDTO actual = service.findById(1L);
 
-            Mockito.verify(dao).findById(1L);
+            Mockito.verify(dao).findByIdOnPrimary(1L);
             assertNotNullAndEquals(expected, actual);
         }
 
+        @Test
+        void findByIdShouldUseTheReplicaRoutedReadOnlyWhenTheCacheIsOff() {
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), LocalDate.now(), Role.INTERN);
+            EmployeeService uncachedService = new EmployeeService(dao, new EmployeeCache(0, 0));
+            Mockito.when(dao.findById(1L)).thenReturn(Optional.of(employee));
+            Mockito.when(dao.findAllByIds(List.of(1L))).thenReturn(List.of(employee));
+
+            uncachedService.findById(1L);
+            uncachedService.findByIds(List.of(1L));
+
+            Mockito.verify(dao, Mockito.never()).findByIdOnPrimary(any());
+            Mockito.verify(dao, Mockito.never()).findAllByIdsOnPrimary(any());
+        }
+
+        @Test
+        void findByIdsShouldAnswerInRequestOrderAndReportMissingIds() {
+            Employee cached = new Employee(3L, "cached", new BigDecimal("300.00"), LocalDate.now(), Role.SENIOR);
+            Employee loaded = new Employee(1L, "loaded", new BigDecimal("100.00"), LocalDate.now(), Role.INTERN);
+            cache.putIfFresh(3L, cached, cache.generation());
+            Mockito.when(dao.findAllByIdsOnPrimary(List.of(1L, 99L))).thenReturn(List.of(loaded));
+
+            EmployeeBatchDTO actual = service.findByIds(List.of(3L, 1L, 99L, 3L));
+
+            Assertions.assertEquals(List.of(3L, 1L), actual.getItems().stream().map(EmployeeDTO::getId).toList());
+            Assertions.assertEquals(List.of(99L), actual.getMissing());
+            Assertions.assertTrue(cache.get(1L).isPresent(), "The loaded employee should be cached");
+        }
+
+        @Test
+        void findByIdShouldServeRepeatedReadsFromTheCache() {
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), LocalDate.now(), Role.INTERN);
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenReturn(Optional.of(employee));
+
+            service.findById(1L);
+            EmployeeDTO actual = service.findById(1L);
+
+            Mockito.verify(dao, Mockito.times(1)).findByIdOnPrimary(1L);
+            assertNotNullAndEquals(new EmployeeDTO(employee), actual);
+            Assertions.assertEquals(1, cache.getHitCount());
+        }
+
+        @Test
+        void updateShouldInvalidateTheCachedEmployee() {
+            LocalDate testDate = LocalDate.now();
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Employee updatedEntity = new Employee(1L, "Updated Name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenReturn(Optional.of(employee), Optional.of(updatedEntity));
+            Mockito.when(dao.update(any(Employee.class))).thenReturn(Optional.of(updatedEntity));
+
+            service.findById(1L);
+            service.update(new EmployeeDTO(updatedEntity));
+            EmployeeDTO actual = service.findById(1L);
+
+            Mockito.verify(dao, Mockito.times(2)).findByIdOnPrimary(1L);
+            assertNotNullAndEquals(new EmployeeDTO(updatedEntity), actual);
+        }
+
+        @Test
+        void findByIdWithFieldsShouldProjectTheCachedEmployee() {
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), LocalDate.now(), Role.INTERN);
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenReturn(Optional.of(employee));
+            service.findById(1L);
+
+            EmployeeDTO actual = service.findById(1L, EnumSet.of(EmployeeField.ID, EmployeeField.NAME));
+
+            Mockito.verify(dao, Mockito.never()).findById(Mockito.eq(1L), Mockito.anySet());
+            Assertions.assertEquals(1L, actual.getId());
+            Assertions.assertEquals("name", actual.getName());
+            Assertions.assertNull(actual.getSalary());
+            Assertions.assertNull(actual.getRole());
+        }
+
+        @Test
+        void findByIdWithFieldsShouldSelectOnlyTheRequestedColumnsOnCacheMiss() {
+            Set<EmployeeField> fields = EnumSet.of(EmployeeField.ID, EmployeeField.NAME);
+            Mockito.when(dao.findById(1L, fields)).thenReturn(Optional.of(new Employee(1L, "name", null, null, null)));
+
+            EmployeeDTO actual = service.findById(1L, fields);
+
+            Mockito.verify(dao).findById(1L, fields);
+            Assertions.assertEquals("name", actual.getName());
+            Assertions.assertTrue(cache.peek(1L).isEmpty());
+        }
+
         @Test
         void findAllShouldReturnAListOfDTO() {
             LocalDate testDate = LocalDate.now();
@@ -73,6 +191,46 @@ class EmployeeServiceTest {
             }
         }
 
+        @Test
+        void findAllShouldPassTheFilterToTheDao() {
+            LocalDate testDate = LocalDate.now();
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.SENIOR);
+            EmployeeFilter filter = new EmployeeFilter(Role.SENIOR, null, null, LocalDate.of(2020, 1, 1), null);
+            Mockito.when(dao.findAll(10, 0, EmployeeField.ALL, filter)).thenReturn(List.of(employee));
+
+            List<EmployeeDTO> result = service.findAll(1, 10, EmployeeField.ALL, filter);
+
+            Mockito.verify(dao).findAll(10, 0, EmployeeField.ALL, filter);
+            assertNotNullAndEquals(new EmployeeDTO(employee), result.get(0));
+        }
+
+        @Test
+        void findAllAfterShouldReturnAPageWithNextCursorWhenThereAreMoreRows() {
+            LocalDate testDate = LocalDate.now();
+            Employee employee1 = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Employee employee2 = new Employee(2L, "name2", new BigDecimal("1000.00"), testDate, Role.MID_LEVEL);
+            Mockito.when(dao.findAllAfter(0L, 2)).thenReturn(List.of(employee1, employee2));
+
+            PageDTO<EmployeeDTO> result = service.findAllAfter(0L, 1);
+
+            Mockito.verify(dao).findAllAfter(0L, 2);
+            Assertions.assertEquals(1, result.getItems().size());
+            assertNotNullAndEquals(new EmployeeDTO(employee1), result.getItems().get(0));
+            Assertions.assertEquals(1L, Cursor.decode(result.getNext()));
+        }
+
+        @Test
+        void findAllAfterShouldReturnANullCursorOnTheLastPage() {
+            LocalDate testDate = LocalDate.now();
+            Employee employee = new Employee(5L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Mockito.when(dao.findAllAfter(4L, 11)).thenReturn(List.of(employee));
+
+            PageDTO<EmployeeDTO> result = service.findAllAfter(4L, 10);
+
+            Assertions.assertEquals(1, result.getItems().size());
+            Assertions.assertNull(result.getNext());
+        }
+
         @Test
         void addEmployeeShouldReturnADTO() {
             LocalDate testDate = LocalDate.now();
@@ -91,6 +249,23 @@ class EmployeeServiceTest {
             Assertions.assertEquals(inputDto.getRole(), result.getRole(), "The role isn't the same");
         }
 
+        @Test
+        void addAllShouldReturnTheDTOsWithGeneratedIds() {
+            LocalDate testDate = LocalDate.now();
+            EmployeeDTO inputDto1 = new EmployeeDTO("name", new BigDecimal("100.00"), testDate, Role.INTERN.name());
+            EmployeeDTO inputDto2 = new EmployeeDTO("name2", new BigDecimal("200.00"), testDate, Role.SENIOR.name());
+            Employee savedEntity1 = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Employee savedEntity2 = new Employee(2L, "name2", new BigDecimal("200.00"), testDate, Role.SENIOR);
+            Mockito.when(dao.saveAll(Mockito.anyList())).thenReturn(List.of(savedEntity1, savedEntity2));
+
+            List<EmployeeDTO> result = service.addAll(List.of(inputDto1, inputDto2));
+
+            Mockito.verify(dao).saveAll(Mockito.anyList());
+            Assertions.assertEquals(2, result.size());
+            assertNotNullAndEquals(new EmployeeDTO(savedEntity1), result.get(0));
+            assertNotNullAndEquals(new EmployeeDTO(savedEntity2), result.get(1));
+        }
+
         @Test
         void updateShouldReturnADTO() {
             LocalDate testDate = LocalDate.now();
@@ -104,6 +279,50 @@ class EmployeeServiceTest {
             assertNotNullAndEquals(inputDto, result);
         }
 
+        @Test
+        void patchShouldMergeWithTheCachedEmployeeWithoutReadingItBack() {
+            LocalDate testDate = LocalDate.now();
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenReturn(Optional.of(employee));
+            Mockito.when(dao.patch(Mockito.eq(1L), any(Employee.class))).thenReturn(true);
+            service.findById(1L);
+            EmployeeDTO changes = new EmployeeDTO();
+            changes.setName("Patched Name");
+
+            EmployeeDTO result = service.patch(1L, changes);
+
+            Mockito.verify(dao).patch(Mockito.eq(1L), any(Employee.class));
+            Mockito.verify(dao, Mockito.never()).patchAndGet(Mockito.anyLong(), any(Employee.class));
+            assertNotNullAndEquals(new EmployeeDTO(1L, "Patched Name", new BigDecimal("100.00"), testDate, Role.INTERN.name()), result);
+            Assertions.assertTrue(cache.peek(1L).isEmpty());
+        }
+
+        @Test
+        void patchShouldReadTheMergedEmployeeBackWhenItIsNotCached() {
+            LocalDate testDate = LocalDate.now();
+            Employee patchedEntity = new Employee(1L, "name", new BigDecimal("500.00"), testDate, Role.INTERN);
+            Mockito.when(dao.patchAndGet(Mockito.eq(1L), any(Employee.class))).thenReturn(Optional.of(patchedEntity));
+            EmployeeDTO changes = new EmployeeDTO();
+            changes.setSalary(new BigDecimal("500.00"));
+
+            EmployeeDTO result = service.patch(1L, changes);
+
+            Mockito.verify(dao).patchAndGet(Mockito.eq(1L), any(Employee.class));
+            assertNotNullAndEquals(new EmployeeDTO(patchedEntity), result);
+        }
+
+        @Test
+        void patchWithoutResultShouldOnlyRunTheUpdate() {
+            Mockito.when(dao.patch(Mockito.eq(1L), any(Employee.class))).thenReturn(true);
+            EmployeeDTO changes = new EmployeeDTO();
+            changes.setRole("senior");
+
+            service.patchWithoutResult(1L, changes);
+
+            Mockito.verify(dao).patch(Mockito.eq(1L), any(Employee.class));
+            Mockito.verifyNoMoreInteractions(dao);
+        }
+
         @Test
         void deleteShouldSucceedWhenEmployeeExists() {
             Mockito.when(dao.delete(1L)).thenReturn(true);
@@ -113,6 +332,236 @@ class EmployeeServiceTest {
             Mockito.verify(dao).delete(1L);
 
         }
+
+        @Test
+        void writesShouldNotifyListenersWithThePreviousAndCurrentState() {
+            LocalDate testDate = LocalDate.now();
+            Employee before = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Employee after = new Employee(1L, "name", new BigDecimal("200.00"), testDate, Role.JUNIOR);
+            EmployeeChangeListener listener = Mockito.mock(EmployeeChangeListener.class);
+            service.addChangeListener(listener);
+            Mockito.when(dao.updateWithPrevious(any(Employee.class))).thenReturn(Optional.of(new EmployeeChange(before, after)));
+            Employee patched = new Employee(2L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Mockito.when(dao.patchWithPrevious(Mockito.eq(2L), any(Employee.class))).thenReturn(Optional.of(new EmployeeChange(patched, patched)));
+            Mockito.when(dao.deleteWithPrevious(1L)).thenReturn(Optional.of(before));
+            EmployeeDTO changes = new EmployeeDTO();
+            changes.setSalary(new BigDecimal("100.00"));
+            changes.setRole("intern");
+
+            service.update(new EmployeeDTO(after));
+            service.patch(2L, changes);
+            service.delete(1L);
+
+            Mockito.verify(listener).onChange(before, after);
+            Mockito.verify(listener).onChange(patched, patched);
+            Mockito.verify(listener).onChange(before, null);
+            Mockito.verify(dao, Mockito.never()).findByIdOnPrimary(any());
+        }
+
+        @Test
+        void writesOverACachedRowShouldNotifyListenersWithoutTheLockedRead() {
+            LocalDate testDate = LocalDate.now();
+            Employee cached = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Employee after = new Employee(1L, "name", new BigDecimal("200.00"), testDate, Role.JUNIOR);
+            EmployeeChangeListener listener = Mockito.mock(EmployeeChangeListener.class);
+            service.addChangeListener(listener);
+            Mockito.when(dao.patch(Mockito.eq(1L), any(Employee.class))).thenReturn(true);
+            Mockito.when(dao.delete(1L)).thenReturn(true);
+
+            cache.putIfFresh(1L, cached, cache.generation());
+            EmployeeDTO updated = service.update(new EmployeeDTO(after));
+            cache.putIfFresh(1L, after, cache.generation());
+            service.delete(1L);
+
+            Assertions.assertEquals(new BigDecimal("200.00"), updated.getSalary());
+            Mockito.verify(listener).onChange(cached, after);
+            Mockito.verify(listener).onChange(after, null);
+            Mockito.verify(dao, Mockito.never()).updateWithPrevious(any());
+            Mockito.verify(dao, Mockito.never()).update(any());
+            Mockito.verify(dao, Mockito.never()).deleteWithPrevious(any());
+        }
+
+        @Test
+        void addShouldNotifyListenersWithoutAPreviousState() {
+            Employee saved = new Employee(1L, "name", new BigDecimal("100.00"), LocalDate.now(), Role.INTERN);
+            EmployeeChangeListener listener = Mockito.mock(EmployeeChangeListener.class);
+            service.addChangeListener(listener);
+            Mockito.when(dao.save(any(Employee.class))).thenReturn(saved);
+
+            service.add(new EmployeeDTO(saved));
+
+            Mockito.verify(listener).onChange(null, saved);
+            Mockito.verify(dao, Mockito.never()).findById(any());
+        }
+
+        @Test
+        void concurrentFindByIdCallsShouldShareOneQuery() throws Exception {
+            Employee employee = new Employee(1L, "name", new BigDecimal("100.00"), LocalDate.now(), Role.INTERN);
+            CountDownLatch release = new CountDownLatch(1);
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(employee);
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<EmployeeDTO>> results = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    results.add(executor.submit(() -> service.findById(1L)));
+                }
+                while (service.getCoalescedReadCount() < 3) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+                for (Future<EmployeeDTO> result : results) {
+                    assertNotNullAndEquals(new EmployeeDTO(employee), result.get(5, TimeUnit.SECONDS));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Mockito.verify(dao, Mockito.times(1)).findByIdOnPrimary(1L);
+        }
+
+        @Test
+        void aReadArrivingDuringAnInvalidationShouldNotCacheThePreWriteRow() throws Exception {
+            LocalDate testDate = LocalDate.now();
+            Employee before = new Employee(1L, "name", new BigDecimal("100.00"), testDate, Role.INTERN);
+            Employee after = new Employee(1L, "name", new BigDecimal("200.00"), testDate, Role.INTERN);
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(before);
+            }).thenReturn(Optional.of(after));
+            Mockito.when(dao.update(any(Employee.class))).thenReturn(Optional.of(after));
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<EmployeeDTO> firstRead = executor.submit(() -> service.findById(1L));
+                Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+                List<Future<EmployeeDTO>> secondRead = new ArrayList<>();
+                Mockito.doAnswer(invocation -> {
+                    invocation.callRealMethod();
+                    secondRead.add(executor.submit(() -> service.findById(1L)));
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+                    while (!secondRead.getFirst().isDone() && service.getCoalescedReadCount() == 0 && System.nanoTime() < deadline) {
+                        Thread.onSpinWait();
+                    }
+                    return null;
+                }).when(cache).invalidate(1L);
+
+                service.update(new EmployeeDTO(after));
+                release.countDown();
+
+                firstRead.get(5, TimeUnit.SECONDS);
+                Assertions.assertEquals(new BigDecimal("200.00"), secondRead.getFirst().get(5, TimeUnit.SECONDS).getSalary());
+                Assertions.assertEquals(new BigDecimal("200.00"), cache.peek(1L).orElseThrow().getSalary());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void raiseSalariesShouldRunTheChunkedUpdateAsAJob() {
+            EmployeeService jobService = new EmployeeService(dao, cache, new JobRegistry(Runnable::run, 10));
+            EmployeeChangeListener listener = Mockito.mock(EmployeeChangeListener.class);
+            jobService.addChangeListener(listener);
+            EmployeeFilter expectedFilter = new EmployeeFilter(Role.JUNIOR, null, null, null, LocalDate.of(2020, 1, 1));
+            Mockito.when(dao.raiseSalaries(Mockito.eq(expectedFilter), Mockito.eq(new BigDecimal("1.10")), any(BulkProgress.class)))
+                    .thenAnswer(invocation -> {
+                        BulkProgress progress = invocation.getArgument(2);
+                        progress.onChunk(500, 500);
+                        progress.onChunk(20, 20);
+                        return 520L;
+                    });
+
+            JobDTO job = jobService.raiseSalaries(new BulkRaiseDTO(new BigDecimal("10"), "JUNIOR", null, null, null, LocalDate.of(2020, 1, 1)));
+            JobDTO status = jobService.findJob(job.getId());
+
+            Assertions.assertEquals("COMPLETED", status.getStatus());
+            Assertions.assertEquals(520, status.getProcessed());
+            Assertions.assertEquals(520, status.getAffected());
+            Mockito.verify(cache).clear();
+            Mockito.verify(listener).onBulkChange(Set.of());
+        }
+
+        @Test
+        void importEmployeesShouldSaveValidRecordsAndReportInvalidLines() throws Exception {
+            EmployeeRecordReader reader = EmployeeRecordReader.open(ImportFormat.CSV, new StringReader(
+                    "name,salary,hiringDate,role\n"
+                            + "a,100.00,2020-01-01,INTERN\n"
+                            + "b,-1,2020-01-01,INTERN\n"
+                            + "c,100.00,2020-01-01,CEO\n"
+                            + "d,200.00,2021-01-01,SENIOR\n"));
+            List<List<String>> savedChunks = new ArrayList<>();
+            Mockito.when(dao.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+                List<Employee> chunk = invocation.getArgument(0);
+                savedChunks.add(chunk.stream().map(Employee::getName).toList());
+                return List.copyOf(chunk);
+            });
+
+            ImportReportDTO report = service.importEmployees(reader);
+
+            Assertions.assertEquals(List.of(List.of("a", "d")), savedChunks);
+            Assertions.assertEquals(4, report.getRecords());
+            Assertions.assertEquals(2, report.getImported());
+            Assertions.assertEquals(2, report.getRejected());
+            Assertions.assertFalse(report.isErrorsTruncated());
+            Assertions.assertEquals(3, report.getErrors().get(0).getLine());
+            Assertions.assertEquals("The salary must be greater than 0", report.getErrors().get(0).getMessage());
+            Assertions.assertEquals(4, report.getErrors().get(1).getLine());
+        }
+
+        @Test
+        void importInBackgroundShouldRunAsAJobAndDeleteTheSpooledFile() throws Exception {
+            EmployeeService jobService = new EmployeeService(dao, cache, new JobRegistry(Runnable::run, 10));
+            Path file = Files.createTempFile("employee-import-test", ".ndjson");
+            Files.writeString(file, "{\"name\":\"a\",\"salary\":1,\"hiringDate\":\"2020-01-01\",\"role\":\"INTERN\"}\n{\"name\":\"\"}\n");
+            Mockito.when(dao.saveAll(Mockito.anyList())).thenAnswer(invocation -> List.copyOf(invocation.<List<Employee>>getArgument(0)));
+
+            JobDTO job = jobService.importInBackground(file, ImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+            Assertions.assertEquals("COMPLETED", job.getStatus());
+            Assertions.assertEquals(2, job.getProcessed());
+            Assertions.assertEquals(1, job.getAffected());
+            Assertions.assertEquals(2, job.getErrors().get(0).getLine());
+            Assertions.assertFalse(Files.exists(file));
+        }
+
+        @Test
+        void deleteAllShouldRemoveTheDistinctIdsAndNotifyListeners() {
+            EmployeeService jobService = new EmployeeService(dao, cache, new JobRegistry(Runnable::run, 10));
+            EmployeeChangeListener listener = Mockito.mock(EmployeeChangeListener.class);
+            jobService.addChangeListener(listener);
+            Mockito.when(dao.deleteByIds(Mockito.eq(List.of(3L, 1L)), any(BulkProgress.class), any())).thenAnswer(invocation -> {
+                Consumer<List<Long>> onCommitted = invocation.getArgument(2);
+                onCommitted.accept(List.of(1L, 3L));
+                return 2L;
+            });
+
+            JobDTO job = jobService.deleteAll(new BulkDeleteDTO(List.of(3L, 1L, 3L)));
+
+            Assertions.assertEquals("delete", job.getType());
+            Assertions.assertEquals(2L, job.getTotal());
+            Mockito.verify(listener).onBulkChange(Set.of(1L, 3L));
+        }
+
+        @Test
+        void aFailedDeleteAllShouldOnlyReportTheCommittedIds() {
+            EmployeeService jobService = new EmployeeService(dao, cache, new JobRegistry(Runnable::run, 10));
+            EmployeeChangeListener listener = Mockito.mock(EmployeeChangeListener.class);
+            jobService.addChangeListener(listener);
+            Mockito.when(dao.deleteByIds(Mockito.eq(List.of(1L, 2L, 3L)), any(BulkProgress.class), any())).thenAnswer(invocation -> {
+                Consumer<List<Long>> onCommitted = invocation.getArgument(2);
+                onCommitted.accept(List.of(1L));
+                throw new DatabaseException("Error on the bulk delete after 1 rows", new SQLException("lost"));
+            });
+
+            JobDTO job = jobService.deleteAll(new BulkDeleteDTO(List.of(1L, 2L, 3L)));
+
+            Assertions.assertEquals("FAILED", jobService.findJob(job.getId()).getStatus());
+            Mockito.verify(listener).onBulkChange(Set.of(1L));
+        }
     }
 
     @Nested
@@ -205,6 +654,49 @@ class EmployeeServiceTest {
             Mockito.verifyNoInteractions(dao);
         }
 
+        @Test
+        void addAllShouldThrowExceptionWithTheIndexOfTheInvalidEmployee() {
+            EmployeeDTO valid = new EmployeeDTO("name", new BigDecimal("1.0"), LocalDate.now(), Role.INTERN.name());
+            EmployeeDTO invalid = new EmployeeDTO("name", null, LocalDate.now(), Role.INTERN.name());
+
+            BusinessRuleException exception = Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.addAll(List.of(valid, invalid));
+            }, "It shouldn't accept a batch with an invalid employee");
+
+            Assertions.assertTrue(exception.getMessage().startsWith("Employee at index 1"));
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void addAllShouldThrowExceptionWhenTheBatchIsEmpty() {
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.addAll(List.of());
+            }, "It shouldn't accept an empty batch");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void patchWithoutFieldsShouldThrowException() {
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.patch(1L, new EmployeeDTO());
+            }, "It shouldn't accept a patch without fields");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void patchBlankNameShouldThrowException() {
+            EmployeeDTO changes = new EmployeeDTO();
+            changes.setName(" ");
+
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.patch(1L, changes);
+            }, "It shouldn't accept a blank name");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
         @Test
         void findAllShouldThrowExceptionWhenSizeIsZero() {
             Assertions.assertThrows(BusinessRuleException.class, () -> {
@@ -232,6 +724,75 @@ class EmployeeServiceTest {
             Mockito.verifyNoInteractions(dao);
         }
 
+        @Test
+        void findAllAfterShouldThrowExceptionWhenSizeIsZero() {
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.findAllAfter(0L, 0);
+            }, "Should throw BusinessRuleException when size is 0");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void findAllShouldThrowExceptionWhenMinSalaryIsGreaterThanMaxSalary() {
+            EmployeeFilter filter = new EmployeeFilter(null, new BigDecimal("10.00"), new BigDecimal("5.00"), null, null);
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.findAll(1, 10, EmployeeField.ALL, filter);
+            }, "Should throw BusinessRuleException when the salary range is inverted");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void findAllAfterShouldThrowExceptionWhenHiredFromIsAfterHiredTo() {
+            EmployeeFilter filter = new EmployeeFilter(null, null, null, LocalDate.of(2021, 1, 1), LocalDate.of(2020, 1, 1));
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.findAllAfter(0L, 10, EmployeeField.ALL, filter);
+            }, "Should throw BusinessRuleException when the date range is inverted");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void raiseSalariesShouldRejectAZeroOrTooLowPercent() {
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.raiseSalaries(new BulkRaiseDTO(BigDecimal.ZERO, null, null, null, null, null));
+            }, "Should throw BusinessRuleException when the percent is zero");
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.raiseSalaries(new BulkRaiseDTO(new BigDecimal("-100"), null, null, null, null, null));
+            }, "Should throw BusinessRuleException when the percent would zero every salary");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void deleteAllShouldRejectEmptyOrInvalidIds() {
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.deleteAll(new BulkDeleteDTO(List.of()));
+            }, "Should throw BusinessRuleException when no ID is given");
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.deleteAll(new BulkDeleteDTO(List.of(1L, -2L)));
+            }, "Should throw BusinessRuleException when an ID isn't positive");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
+        @Test
+        void findByIdsShouldRejectAnEmptyOrTooLongList() {
+            List<Long> tooMany = new ArrayList<>();
+            for (long i = 1; i <= EmployeeService.MAX_MULTI_GET_IDS + 1; i++) {
+                tooMany.add(i);
+            }
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.findByIds(List.of());
+            }, "Should throw BusinessRuleException when no ID is given");
+            Assertions.assertThrows(BusinessRuleException.class, () -> {
+                service.findByIds(tooMany);
+            }, "Should throw BusinessRuleException when too many IDs are given");
+
+            Mockito.verifyNoInteractions(dao);
+        }
+
         @Test
         void findAllShouldThrowExceptionWhenPageIsNegative() {
             Assertions.assertThrows(BusinessRuleException.class, () -> {
@@ -246,13 +807,22 @@ class EmployeeServiceTest {
     class Exceptions{
         @Test
         void findByIdShouldThrowNotFoundExceptionWhenEmployeeNotExists() {
-            Mockito.when(dao.findById(1L)).thenReturn(Optional.empty());
+            Mockito.when(dao.findByIdOnPrimary(1L)).thenReturn(Optional.empty());
 
             Assertions.assertThrows(NotFoundException.class, () -> {
                 service.findById(1L);
             });
 
-            Mockito.verify(dao).findById(1L);
+            Mockito.verify(dao).findByIdOnPrimary(1L);
+        }
+
+        @Test
+        void findJobShouldThrowNotFoundExceptionWhenJobNotExists() {
+            EmployeeService jobService = new EmployeeService(dao, cache, new JobRegistry(Runnable::run, 10));
+
+            Assertions.assertThrows(NotFoundException.class, () -> {
+                jobService.findJob(42L);
+            });
         }
 
         @Test
@@ -267,6 +837,17 @@ class EmployeeServiceTest {
             Mockito.verify(dao).update(any(Employee.class));
         }
 
+        @Test
+        void patchWithoutResultShouldThrowNotFoundExceptionWhenEmployeeNotExists() {
+            Mockito.when(dao.patch(Mockito.eq(999L), any(Employee.class))).thenReturn(false);
+            EmployeeDTO changes = new EmployeeDTO();
+            changes.setName("name");
+
+            Assertions.assertThrows(NotFoundException.class, () -> {
+                service.patchWithoutResult(999L, changes);
+            });
+        }
+
         @Test
         void deleteShouldThrowNotFoundExceptionWhenEmployeeNotExists() {
             Mockito.when(dao.delete(999L)).thenReturn(false);
@@ -0,0 +1,75 @@
+package com.mlcdev.employeeapi.stats;
+
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.EmployeeFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCounterTest {
+
+    @Mock
+    EmployeeDAO dao;
+
+    private Employee employee(Long id) {
+        return new Employee(id, "name", new BigDecimal("1.00"), LocalDate.of(2000, 1, 1), Role.INTERN);
+    }
+
+    @Test
+    void countShouldFollowInsertsAndDeletesWithoutQuerying() {
+        Mockito.when(dao.count(EmployeeFilter.NONE)).thenReturn(10L);
+        EmployeeCounter counter = new EmployeeCounter(dao, 30);
+        counter.start(0);
+
+        counter.onChange(null, employee(11L));
+        counter.onChange(null, employee(12L));
+        counter.onChange(employee(1L), null);
+        counter.onChange(employee(2L), employee(2L));
+
+        Assertions.assertEquals(11, counter.count(EmployeeFilter.NONE));
+        Mockito.verify(dao, Mockito.times(1)).count(EmployeeFilter.NONE);
+    }
+
+    @Test
+    void refreshShouldReplaceTheCounterWithTheExactCount() {
+        Mockito.when(dao.count(EmployeeFilter.NONE)).thenReturn(10L, 7L);
+        EmployeeCounter counter = new EmployeeCounter(dao, 30);
+        counter.start(0);
+        counter.onChange(null, employee(11L));
+
+        counter.refresh();
+
+        Assertions.assertEquals(7, counter.count(EmployeeFilter.NONE));
+    }
+
+    @Test
+    void filteredCountsShouldBeReusedWithinTheTtl() {
+        EmployeeFilter filter = new EmployeeFilter(Role.SENIOR, null, null, null, null);
+        Mockito.when(dao.count(filter)).thenReturn(3L);
+        EmployeeCounter counter = new EmployeeCounter(dao, 30);
+
+        Assertions.assertEquals(3, counter.count(filter));
+        Assertions.assertEquals(3, counter.count(new EmployeeFilter(Role.SENIOR, null, null, null, null)));
+
+        Mockito.verify(dao, Mockito.times(1)).count(filter);
+    }
+
+    @Test
+    void filteredCountsShouldBeQueriedAgainOnceExpired() {
+        EmployeeFilter filter = new EmployeeFilter(Role.SENIOR, null, null, null, null);
+        Mockito.when(dao.count(filter)).thenReturn(3L, 4L);
+        EmployeeCounter counter = new EmployeeCounter(dao, 0);
+
+        Assertions.assertEquals(3, counter.count(filter));
+        Assertions.assertEquals(4, counter.count(filter));
+    }
+}
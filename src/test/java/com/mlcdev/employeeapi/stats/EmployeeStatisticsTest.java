@@ -0,0 +1,117 @@
+package com.mlcdev.employeeapi.stats;
+
+import com.mlcdev.employeeapi.dto.EmployeeStatsDTO;
+import com.mlcdev.employeeapi.dto.SalaryStatsDTO;
+import com.mlcdev.employeeapi.model.Employee;
+import com.mlcdev.employeeapi.model.Role;
+import com.mlcdev.employeeapi.repository.EmployeeDAO;
+import com.mlcdev.employeeapi.repository.RowHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeStatisticsTest {
+
+    @Mock
+    EmployeeDAO dao;
+
+    private Employee employee(Long id, String salary, Role role) {
+        return new Employee(id, "name", new BigDecimal(salary), LocalDate.of(2000, 1, 1), role);
+    }
+
+    private void stubTable(List<Employee> rows) throws Exception {
+        doAnswer(invocation -> {
+            RowHandler<Employee> handler = invocation.getArgument(1);
+            for (Employee row : rows) {
+                handler.handle(row);
+            }
+            return null;
+        }).when(dao).streamAll(anySet(), any());
+    }
+
+    @Test
+    void reconcileShouldBuildExactCountsAndSumsPerRole() throws Exception {
+        stubTable(List.of(employee(1L, "1000.00", Role.JUNIOR), employee(2L, "3000.00", Role.JUNIOR), employee(3L, "9000.00", Role.SENIOR)));
+        EmployeeStatistics statistics = new EmployeeStatistics(dao);
+
+        statistics.reconcile();
+        EmployeeStatsDTO stats = statistics.snapshot();
+
+        SalaryStatsDTO junior = stats.getRoles().get("JUNIOR");
+        Assertions.assertEquals(2, junior.getCount());
+        Assertions.assertEquals(0, new BigDecimal("4000.00").compareTo(junior.getSum()));
+        Assertions.assertEquals(0, new BigDecimal("2000.00").compareTo(junior.getAverage()));
+        Assertions.assertEquals(3, stats.getOverall().getCount());
+        Assertions.assertEquals(0, new BigDecimal("13000.00").compareTo(stats.getOverall().getSum()));
+        Assertions.assertNotNull(stats.getReconciledAt());
+        Assertions.assertEquals(0, stats.getRoles().get("INTERN").getCount());
+        Assertions.assertNull(stats.getRoles().get("INTERN").getP50());
+    }
+
+    @Test
+    void onChangeShouldMoveTheSalaryBetweenRoles() throws Exception {
+        stubTable(List.of(employee(1L, "1000.00", Role.JUNIOR)));
+        EmployeeStatistics statistics = new EmployeeStatistics(dao);
+        statistics.reconcile();
+
+        statistics.onChange(null, employee(2L, "5000.00", Role.SENIOR));
+        statistics.onChange(employee(1L, "1000.00", Role.JUNIOR), employee(1L, "2000.00", Role.MID_LEVEL));
+        EmployeeStatsDTO stats = statistics.snapshot();
+
+        Assertions.assertEquals(0, stats.getRoles().get("JUNIOR").getCount());
+        Assertions.assertEquals(0, BigDecimal.ZERO.compareTo(stats.getRoles().get("JUNIOR").getSum()));
+        Assertions.assertEquals(1, stats.getRoles().get("MID_LEVEL").getCount());
+        Assertions.assertEquals(2, stats.getOverall().getCount());
+        Assertions.assertEquals(0, new BigDecimal("7000.00").compareTo(stats.getOverall().getSum()));
+
+        statistics.onChange(employee(2L, "5000.00", Role.SENIOR), null);
+        Assertions.assertEquals(0, statistics.snapshot().getRoles().get("SENIOR").getCount());
+    }
+
+    @Test
+    void sketchQuantilesShouldStayWithinTheRelativeAccuracy() {
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1; salary <= 10000; salary++) {
+            sketch.add(BigDecimal.valueOf(salary));
+        }
+        sketch.remove(BigDecimal.valueOf(10000));
+        sketch.add(BigDecimal.valueOf(10000));
+
+        assertWithinAccuracy(5000, sketch.quantile(0.5));
+        assertWithinAccuracy(9000, sketch.quantile(0.9));
+        assertWithinAccuracy(9900, sketch.quantile(0.99));
+        Assertions.assertEquals(10000, sketch.getCount());
+    }
+
+    @Test
+    void mergedSketchesShouldMatchASingleSketch() {
+        SalarySketch low = new SalarySketch();
+        SalarySketch high = new SalarySketch();
+        SalarySketch all = new SalarySketch();
+        for (int salary = 1; salary <= 1000; salary++) {
+            (salary <= 500 ? low : high).add(BigDecimal.valueOf(salary));
+            all.add(BigDecimal.valueOf(salary));
+        }
+
+        low.merge(high);
+
+        Assertions.assertEquals(all.getCount(), low.getCount());
+        Assertions.assertEquals(all.quantile(0.9), low.quantile(0.9));
+    }
+
+    private void assertWithinAccuracy(double expected, BigDecimal actual) {
+        double error = Math.abs(actual.doubleValue() - expected) / expected;
+        Assertions.assertTrue(error <= SalarySketch.RELATIVE_ACCURACY + 1e-3, "Expected ~" + expected + " but got " + actual);
+    }
+}